@@ -0,0 +1,73 @@
+package app.sportradar.benchmarks;
+
+import app.sportradar.domain.Match;
+import app.sportradar.domain.ScoreEvent;
+import app.sportradar.domain.ScoreEventResult;
+import app.sportradar.domain.Scoreboard;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link Scoreboard#applyBatch} against the same events applied through individual calls. Each
+ * batch increments and then decrements the home score of {@code batchSize / 2} matches, so the
+ * board does not drift between invocations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchBenchmark {
+
+  @Param({"10", "100", "1000"})
+  int batchSize;
+
+  @Param({"10000"})
+  int liveMatches;
+
+  private Scoreboard scoreboard;
+  private List<ScoreEvent> events;
+  private Match[] targets;
+
+  @Setup
+  public void setUp() {
+    scoreboard = BoardFixture.populate(liveMatches);
+    int matchCount = Math.min(batchSize / 2, liveMatches);
+    targets = new Match[matchCount];
+    events = new ArrayList<>(batchSize);
+    for (int i = 0; i < matchCount; i++) {
+      targets[i] =
+          scoreboard.findMatch(
+              BoardFixture.homeTeam(i), BoardFixture.awayTeam(i), BoardFixture.startTime(i));
+      events.add(ScoreEvent.incrementHomeTeamScore(targets[i].getKey()));
+      events.add(ScoreEvent.decrementHomeScore(targets[i].getKey()));
+    }
+  }
+
+  @Benchmark
+  public List<ScoreEventResult> applyBatch() {
+    return scoreboard.applyBatch(events);
+  }
+
+  @Benchmark
+  public void individualCalls(Blackhole blackhole) {
+    for (Match target : targets) {
+      blackhole.consume(scoreboard.incrementHomeTeamScore(target));
+      blackhole.consume(scoreboard.decrementHomeScore(target));
+    }
+  }
+}
@@ -0,0 +1,37 @@
+package app.sportradar.benchmarks;
+
+import app.sportradar.domain.Scoreboard;
+import java.time.LocalDateTime;
+
+/** Builds populated scoreboards shared by the benchmarks. */
+final class BoardFixture {
+  static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 6, 15, 12, 0);
+
+  private BoardFixture() {}
+
+  static String homeTeam(int index) {
+    return "Home-" + index;
+  }
+
+  static String awayTeam(int index) {
+    return "Away-" + index;
+  }
+
+  static LocalDateTime startTime(int index) {
+    return BASE_TIME.plusSeconds(index);
+  }
+
+  /** A scoreboard with {@code liveMatches} matches carrying a spread of small scores. */
+  static Scoreboard populate(int liveMatches) {
+    return populate(new Scoreboard(), liveMatches);
+  }
+
+  /** Fills the given scoreboard the same way as {@link #populate(int)}. */
+  static Scoreboard populate(Scoreboard scoreboard, int liveMatches) {
+    for (int i = 0; i < liveMatches; i++) {
+      scoreboard.startMatch(homeTeam(i), awayTeam(i), startTime(i));
+      scoreboard.updateScore(homeTeam(i), awayTeam(i), startTime(i), i % 7, i % 5);
+    }
+    return scoreboard;
+  }
+}
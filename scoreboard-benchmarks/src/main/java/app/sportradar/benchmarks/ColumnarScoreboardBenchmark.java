@@ -0,0 +1,93 @@
+package app.sportradar.benchmarks;
+
+import app.sportradar.domain.ColumnarScoreboard;
+import app.sportradar.domain.Match;
+import app.sportradar.domain.MatchKey;
+import app.sportradar.domain.Score;
+import app.sportradar.domain.SummaryView;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Hot paths of {@link ColumnarScoreboard}, to compare with {@link ScoreboardBenchmark} and {@link
+ * SummaryBenchmark} on the same board sizes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ColumnarScoreboardBenchmark {
+
+  @Param({"1000", "100000", "1000000"})
+  int liveMatches;
+
+  private ColumnarScoreboard scoreboard;
+  private MatchKey[] keys;
+
+  @Setup
+  public void setUp() {
+    scoreboard = new ColumnarScoreboard(liveMatches);
+    keys = new MatchKey[liveMatches];
+    for (int i = 0; i < liveMatches; i++) {
+      String home = BoardFixture.homeTeam(i);
+      String away = BoardFixture.awayTeam(i);
+      scoreboard.startMatch(home, away, BoardFixture.startTime(i));
+      scoreboard.updateScore(home, away, BoardFixture.startTime(i), i % 7, i % 5);
+      keys[i] = MatchKey.of(home, away, BoardFixture.startTime(i));
+    }
+  }
+
+  @Benchmark
+  public Score incrementAndDecrementHomeScore(MatchCursor cursor) {
+    MatchKey key = keys[cursor.next(liveMatches)];
+    scoreboard.incrementHomeTeamScore(key);
+    return scoreboard.decrementHomeScore(key);
+  }
+
+  @Benchmark
+  public Match findMatch(MatchCursor cursor) {
+    return scoreboard.findMatch(keys[cursor.next(liveMatches)]);
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public List<Match> top10() {
+    return scoreboard.getSummary(10);
+  }
+
+  /** Serializer-style walk over the leading 1000 entries through materialized matches. */
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public long streamTop1000() {
+    long checksum = 0;
+    for (Match match : scoreboard.getSummary(1000)) {
+      checksum += match.getHomeTeam().length() + match.getScore().homeScore();
+    }
+    return checksum;
+  }
+
+  /** The same walk through a {@link SummaryView}, without materializing matches. */
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public long streamTop1000View() {
+    long checksum = 0;
+    SummaryView view = scoreboard.getSummaryView(1000);
+    while (view.next()) {
+      checksum += view.homeTeam().length() + view.homeScore();
+    }
+    return checksum;
+  }
+}
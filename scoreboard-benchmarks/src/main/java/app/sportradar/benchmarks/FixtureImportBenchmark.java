@@ -0,0 +1,82 @@
+package app.sportradar.benchmarks;
+
+import app.sportradar.domain.Match;
+import app.sportradar.domain.MatchFixture;
+import app.sportradar.domain.Scoreboard;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Loading a match day of fixtures into an empty board: one {@code startMatch} call per fixture
+ * against {@link Scoreboard#importFixtures} and {@link Scoreboard#startMatches}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FixtureImportBenchmark {
+
+  @Param({"50000"})
+  int fixtureCount;
+
+  private List<MatchFixture> fixtures;
+  private List<Match> matches;
+  private Scoreboard scoreboard;
+
+  @Setup(Level.Trial)
+  public void createFixtures() {
+    fixtures = new ArrayList<>(fixtureCount);
+    matches = new ArrayList<>(fixtureCount);
+    for (int i = 0; i < fixtureCount; i++) {
+      fixtures.add(
+          new MatchFixture(
+              BoardFixture.homeTeam(i), BoardFixture.awayTeam(i), BoardFixture.startTime(i)));
+      matches.add(
+          Match.builder()
+              .homeTeam(BoardFixture.homeTeam(i))
+              .awayTeam(BoardFixture.awayTeam(i))
+              .startTime(BoardFixture.startTime(i))
+              .build());
+    }
+  }
+
+  @Setup(Level.Iteration)
+  public void createBoard() {
+    scoreboard = new Scoreboard();
+  }
+
+  @Benchmark
+  public Scoreboard startMatchLoop() {
+    for (MatchFixture fixture : fixtures) {
+      scoreboard.startMatch(fixture.homeTeam(), fixture.awayTeam(), fixture.startTime());
+    }
+    return scoreboard;
+  }
+
+  @Benchmark
+  public Scoreboard importFixtures() {
+    scoreboard.importFixtures(fixtures);
+    return scoreboard;
+  }
+
+  @Benchmark
+  public Scoreboard startMatches() {
+    scoreboard.startMatches(matches);
+    return scoreboard;
+  }
+}
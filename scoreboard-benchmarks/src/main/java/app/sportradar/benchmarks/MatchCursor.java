@@ -0,0 +1,37 @@
+package app.sportradar.benchmarks;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.ThreadParams;
+
+/**
+ * Per-thread position in a benchmark's match array, so that benchmarks run with {@code -t} above 1
+ * walk the matches without sharing an unsynchronized counter. Each thread starts at its own share
+ * of the array, so threads do not hit the same match at the same moment.
+ */
+@State(Scope.Thread)
+public class MatchCursor {
+  private int threadIndex;
+  private int threadCount = 1;
+  private boolean seeded;
+  private int position;
+
+  @Setup
+  public void setUp(ThreadParams threads) {
+    threadIndex = threads.getThreadIndex();
+    threadCount = threads.getThreadCount();
+  }
+
+  /** Returns the next index below {@code bound}, wrapping around to 0 after {@code bound - 1}. */
+  int next(int bound) {
+    if (!seeded) {
+      // the bound is only known here, the first call places the thread on its share
+      position = (int) ((long) threadIndex * bound / threadCount);
+      seeded = true;
+    }
+    int index = position;
+    position = index + 1 < bound ? index + 1 : 0;
+    return index;
+  }
+}
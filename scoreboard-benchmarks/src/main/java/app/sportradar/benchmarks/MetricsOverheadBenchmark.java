@@ -0,0 +1,80 @@
+package app.sportradar.benchmarks;
+
+import app.sportradar.adapter.out.HistogramScoreboardMetrics;
+import app.sportradar.domain.Match;
+import app.sportradar.domain.Scoreboard;
+import app.sportradar.domain.ScoreboardJournal;
+import app.sportradar.domain.ScoreboardMetrics;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of the {@link ScoreboardMetrics} instrumentation on the hot paths. {@code none} is the
+ * unmonitored board and should match {@link ScoreboardBenchmark}; {@code noop} is a monitored board
+ * whose metrics discard everything, isolating the clock reads; {@code histogram} records into
+ * {@link HistogramScoreboardMetrics}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetricsOverheadBenchmark {
+
+  @Param({"none", "noop", "histogram"})
+  String metrics;
+
+  @Param({"1000"})
+  int liveMatches;
+
+  private Scoreboard scoreboard;
+  private Match[] matches;
+
+  @Setup
+  public void setUp() {
+    ScoreboardMetrics instrumentation =
+        switch (metrics) {
+          case "none" -> ScoreboardMetrics.NONE;
+          case "noop" -> new ScoreboardMetrics() {};
+          case "histogram" -> new HistogramScoreboardMetrics();
+          default -> throw new IllegalArgumentException("Unknown metrics " + metrics + ".");
+        };
+    scoreboard =
+        BoardFixture.populate(new Scoreboard(ScoreboardJournal.NONE, instrumentation), liveMatches);
+    matches = new Match[liveMatches];
+    for (int i = 0; i < liveMatches; i++) {
+      matches[i] =
+          scoreboard.findMatch(
+              BoardFixture.homeTeam(i), BoardFixture.awayTeam(i), BoardFixture.startTime(i));
+    }
+  }
+
+  @Benchmark
+  public Match findMatch(MatchCursor cursor) {
+    return scoreboard.findMatch(matches[cursor.next(liveMatches)]);
+  }
+
+  @Benchmark
+  public Match incrementAndDecrementHomeScore(MatchCursor cursor) {
+    Match match = matches[cursor.next(liveMatches)];
+    scoreboard.incrementHomeTeamScore(match);
+    return scoreboard.decrementHomeScore(match);
+  }
+
+  @Benchmark
+  public List<Match> top10() {
+    return scoreboard.getSummary(10);
+  }
+}
@@ -0,0 +1,60 @@
+package app.sportradar.benchmarks;
+
+import app.sportradar.domain.Match;
+import app.sportradar.domain.Scoreboard;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Concurrent mix of summary reads and score writes. The share of reads is set by {@code
+ * readPercent}; a write is a goal followed by its correction on a random match. The thread count is
+ * set with {@code -t}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MixedWorkloadBenchmark {
+
+  @Param({"1000", "100000"})
+  int liveMatches;
+
+  @Param({"50", "90", "99"})
+  int readPercent;
+
+  private Scoreboard scoreboard;
+  private Match[] matches;
+
+  @Setup
+  public void setUp() {
+    scoreboard = BoardFixture.populate(liveMatches);
+    matches = scoreboard.getMatchMap().values().toArray(new Match[0]);
+  }
+
+  @Benchmark
+  public void mixed(Blackhole blackhole) {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    if (random.nextInt(100) < readPercent) {
+      blackhole.consume(scoreboard.getSummary());
+      return;
+    }
+    // a goal and its correction: the decrement never meets a score another thread took to zero
+    Match match = matches[random.nextInt(matches.length)];
+    blackhole.consume(scoreboard.incrementHomeTeamScore(match));
+    blackhole.consume(scoreboard.decrementHomeScore(match));
+  }
+}
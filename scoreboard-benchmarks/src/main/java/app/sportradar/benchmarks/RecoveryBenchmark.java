@@ -0,0 +1,72 @@
+package app.sportradar.benchmarks;
+
+import app.sportradar.adapter.out.WriteAheadLogScoreboardRepository;
+import app.sportradar.domain.Scoreboard;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cold-start cost of rebuilding a scoreboard, either by replaying the whole write-ahead log or by
+ * loading a checkpoint.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RecoveryBenchmark {
+
+  @Param({"10000", "100000"})
+  int liveMatches;
+
+  @Param({"false", "true"})
+  boolean checkpointed;
+
+  private Path directory;
+
+  @Setup
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("scoreboard-recovery");
+    try (WriteAheadLogScoreboardRepository repository =
+        new WriteAheadLogScoreboardRepository(directory)) {
+      repository.save(BoardFixture.populate(liveMatches));
+      if (checkpointed) {
+        repository.checkpoint();
+      }
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    try (Stream<Path> files = Files.walk(directory)) {
+      for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+        Files.delete(path);
+      }
+    }
+  }
+
+  @Benchmark
+  public Scoreboard recover() throws IOException {
+    try (WriteAheadLogScoreboardRepository repository =
+        new WriteAheadLogScoreboardRepository(directory)) {
+      return repository.getScoreboard();
+    }
+  }
+}
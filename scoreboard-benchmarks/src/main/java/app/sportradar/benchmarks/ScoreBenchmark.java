@@ -0,0 +1,47 @@
+package app.sportradar.benchmarks;
+
+import app.sportradar.domain.Score;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Cost of creating and deriving {@link Score} values. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ScoreBenchmark {
+
+  private int home = 2;
+  private int away = 1;
+  private Score score = Score.of(2, 1);
+
+  @Benchmark
+  public Score construct() {
+    return new Score(home, away);
+  }
+
+  @Benchmark
+  public Score flyweight() {
+    return Score.of(home, away);
+  }
+
+  @Benchmark
+  public Score incrementHomeTeamScore() {
+    return score.incrementHomeTeamScore();
+  }
+
+  @Benchmark
+  public Score incrementAwayScoreByValue() {
+    return score.incrementAwayScoreByValue(2);
+  }
+}
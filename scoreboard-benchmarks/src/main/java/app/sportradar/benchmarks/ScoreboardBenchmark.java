@@ -0,0 +1,81 @@
+package app.sportradar.benchmarks;
+
+import app.sportradar.domain.Match;
+import app.sportradar.domain.Scoreboard;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Single-operation cost of the scoreboard hot paths against boards of different sizes. Run with
+ * {@code -prof gc} (the default in {@link BenchmarkRunner}) to see bytes allocated per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScoreboardBenchmark {
+
+  @Param({"10", "1000", "100000", "1000000"})
+  int liveMatches;
+
+  private Scoreboard scoreboard;
+  private Match[] matches;
+
+  @Setup
+  public void setUp() {
+    scoreboard = BoardFixture.populate(liveMatches);
+    matches = new Match[liveMatches];
+    for (int i = 0; i < liveMatches; i++) {
+      matches[i] =
+          scoreboard.findMatch(
+              BoardFixture.homeTeam(i), BoardFixture.awayTeam(i), BoardFixture.startTime(i));
+    }
+  }
+
+  /** Reads an unchanged board, i.e. the memoized summary; see {@link SummaryBenchmark}. */
+  @Benchmark
+  public List<Match> getSummary() {
+    return scoreboard.getSummary();
+  }
+
+  @Benchmark
+  public Match findMatchByIdentifiers(MatchCursor cursor) {
+    Match match = matches[cursor.next(liveMatches)];
+    return scoreboard.findMatch(match.getHomeTeam(), match.getAwayTeam(), match.getStartTime());
+  }
+
+  @Benchmark
+  public Match findMatchByMatch(MatchCursor cursor) {
+    return scoreboard.findMatch(matches[cursor.next(liveMatches)]);
+  }
+
+  @Benchmark
+  public Match incrementAndDecrementHomeScore(MatchCursor cursor) {
+    Match match = matches[cursor.next(liveMatches)];
+    scoreboard.incrementHomeTeamScore(
+        match.getHomeTeam(), match.getAwayTeam(), match.getStartTime());
+    return scoreboard.decrementHomeScore(
+        match.getHomeTeam(), match.getAwayTeam(), match.getStartTime());
+  }
+
+  @Benchmark
+  public Match startAndFinishMatch(MatchCursor cursor) {
+    Match match = matches[cursor.next(liveMatches)];
+    scoreboard.finishMatch(match);
+    scoreboard.startMatch(match);
+    return match;
+  }
+}
@@ -0,0 +1,100 @@
+package app.sportradar.benchmarks;
+
+import app.sportradar.domain.Match;
+import app.sportradar.domain.Scoreboard;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link Scoreboard#getSummary()} with the original implementation, which stream-sorted
+ * every live match on each call.
+ *
+ * <p>{@code summary} reads a board that does not change, so it only measures the memoized list.
+ * {@code summaryAfterUpdate} changes a score before every read and so pays for the rebuild each
+ * time, and the {@code readWhileWriting} group runs a reader against a concurrent writer.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SummaryBenchmark {
+
+  @Param({"10", "1000", "100000", "1000000"})
+  int liveMatches;
+
+  private Scoreboard scoreboard;
+  private int goals;
+
+  @Setup
+  public void setUp() {
+    scoreboard = BoardFixture.populate(liveMatches);
+  }
+
+  @Benchmark
+  public List<Match> summary() {
+    return scoreboard.getSummary();
+  }
+
+  @Benchmark
+  public List<Match> summaryAfterUpdate(MatchCursor cursor) {
+    updateNextScore(cursor);
+    return scoreboard.getSummary();
+  }
+
+  @Benchmark
+  @Group("readWhileWriting")
+  @GroupThreads(1)
+  public List<Match> reader() {
+    return scoreboard.getSummary();
+  }
+
+  @Benchmark
+  @Group("readWhileWriting")
+  @GroupThreads(1)
+  public Match writer(MatchCursor cursor) {
+    return updateNextScore(cursor);
+  }
+
+  /** Moves a match to another total, so that the next summary read has to rebuild. */
+  private Match updateNextScore(MatchCursor cursor) {
+    int index = cursor.next(liveMatches);
+    goals = (goals + 1) & 7;
+    return scoreboard.updateScore(
+        BoardFixture.homeTeam(index),
+        BoardFixture.awayTeam(index),
+        BoardFixture.startTime(index),
+        goals,
+        index % 5);
+  }
+
+  @Benchmark
+  public List<Match> top10() {
+    return scoreboard.getSummary(10);
+  }
+
+  @Benchmark
+  public List<Match> streamSortedBaseline() {
+    return scoreboard.getMatchMap().values().stream()
+        .sorted(
+            Comparator.comparingInt((Match m) -> m.getScore().total())
+                .reversed()
+                .thenComparing(Comparator.comparing(Match::getStartTime).reversed()))
+        .toList();
+  }
+}
@@ -0,0 +1,68 @@
+package app.sportradar.benchmarks;
+
+import app.sportradar.domain.Match;
+import app.sportradar.domain.Scoreboard;
+import app.sportradar.domain.ShardedScoreboard;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Write throughput of a single {@link Scoreboard} against a {@link ShardedScoreboard} with {@code
+ * shards} shards. Run with increasing {@code -t} to see how each scales with threads, e.g. {@code
+ * -t 1}, {@code -t 8} and {@code -t 32}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WriteScalingBenchmark {
+
+  @Param({"100000"})
+  int liveMatches;
+
+  @Param({"64"})
+  int shards;
+
+  private Scoreboard single;
+  private ShardedScoreboard sharded;
+  private Match[] matches;
+
+  @Setup
+  public void setUp() {
+    single = BoardFixture.populate(liveMatches);
+    List<Match> summary = single.getSummary();
+    matches = summary.toArray(new Match[0]);
+    sharded = new ShardedScoreboard(shards);
+    for (Match match : matches) {
+      sharded.startMatch(match);
+    }
+  }
+
+  @Benchmark
+  public Match singleBoard() {
+    Match match = matches[ThreadLocalRandom.current().nextInt(matches.length)];
+    single.incrementHomeTeamScore(match);
+    return single.decrementHomeScore(match);
+  }
+
+  @Benchmark
+  public Match shardedBoard() {
+    Match match = matches[ThreadLocalRandom.current().nextInt(matches.length)];
+    sharded.incrementHomeTeamScore(match);
+    return sharded.decrementHomeScore(match);
+  }
+}
@@ -0,0 +1,42 @@
+package app.sportradar.examples.load;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/** Minimal {@code --name=value} command line parsing for the load tools. */
+final class Arguments {
+  private final Map<String, String> values;
+
+  private Arguments(Map<String, String> values) {
+    this.values = values;
+  }
+
+  static Arguments parse(String[] args) {
+    Map<String, String> values = new HashMap<>();
+    for (String arg : args) {
+      if (!arg.startsWith("--") || !arg.contains("=")) {
+        throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+      }
+      int separator = arg.indexOf('=');
+      values.put(arg.substring(2, separator), arg.substring(separator + 1));
+    }
+    return new Arguments(values);
+  }
+
+  int intValue(String name, int defaultValue) {
+    String value = values.get(name);
+    return value == null ? defaultValue : Integer.parseInt(value);
+  }
+
+  double doubleValue(String name, double defaultValue) {
+    String value = values.get(name);
+    return value == null ? defaultValue : Double.parseDouble(value);
+  }
+
+  /** Returns the path argument, or {@code null} when it was not given. */
+  Path pathValue(String name) {
+    String value = values.get(name);
+    return value == null ? null : Path.of(value);
+  }
+}
@@ -0,0 +1,75 @@
+package app.sportradar.examples.load;
+
+import app.sportradar.domain.Match;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes applied operations as a replay file for {@link ReplayTool}: one {@code
+ * elapsedMillis|feedLine} entry per operation, where {@code feedLine} uses the format of {@link
+ * app.sportradar.adapter.in.LineFeedDecoder}. Corrections are recorded as absolute {@code SCORE}
+ * lines, so a replay reaches the same state.
+ */
+final class EventRecorder implements Closeable {
+  private final BufferedWriter writer;
+  private final long startNanos;
+
+  EventRecorder(Path file, long startNanos) {
+    try {
+      this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not create replay file " + file, e);
+    }
+    this.startNanos = startNanos;
+  }
+
+  void started(Match match) {
+    write("START", match, "");
+  }
+
+  void homeGoal(Match match) {
+    write("HOME_GOAL", match, "");
+  }
+
+  void awayGoal(Match match) {
+    write("AWAY_GOAL", match, "");
+  }
+
+  void corrected(Match match) {
+    write("SCORE", match, "|" + match.getScore().homeScore() + "|" + match.getScore().awayScore());
+  }
+
+  void finished(Match match) {
+    write("FINISH", match, "");
+  }
+
+  private synchronized void write(String type, Match match, String suffix) {
+    long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+    try {
+      writer.write(
+          elapsedMillis
+              + "|"
+              + type
+              + "|"
+              + match.getHomeTeam()
+              + "|"
+              + match.getAwayTeam()
+              + "|"
+              + match.getStartTime()
+              + suffix);
+      writer.newLine();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not write replay file.", e);
+    }
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    writer.close();
+  }
+}
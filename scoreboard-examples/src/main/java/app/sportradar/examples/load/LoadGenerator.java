@@ -0,0 +1,286 @@
+package app.sportradar.examples.load;
+
+import app.sportradar.adapter.out.ConcurrentHistogram;
+import app.sportradar.domain.Match;
+import app.sportradar.domain.Scoreboard;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Synthesizes match-day traffic against a {@link Scoreboard} and reports throughput and latency
+ * percentiles per operation.
+ *
+ * <p>Writer threads simulate {@code --matches} concurrent fixtures on a clock running {@code
+ * --speed} times faster than real time. Goals arrive as a Poisson process ({@code
+ * --goals-per-match} per 90 minutes on average), a share of them ({@code --var-rate}) is reviewed
+ * shortly after and either disallowed through {@code decrementHomeScore}/{@code decrementAwayScore}
+ * or corrected through {@code updateScore}, and every finished fixture is replaced by a new one.
+ * Reader threads meanwhile hammer {@link Scoreboard#getSummary()}. With {@code --record=file} every
+ * write is also stored as a replay file for {@link ReplayTool}.
+ *
+ * <pre>
+ * java ... LoadGenerator --matches=5000 --speed=600 --seconds=60 --writers=4 --readers=4
+ * </pre>
+ */
+@Slf4j
+public class LoadGenerator {
+  private static final Duration MATCH_LENGTH = Duration.ofMinutes(90);
+  private static final Duration VAR_REVIEW_DELAY = Duration.ofMinutes(2);
+  private static final LocalDateTime KICK_OFF = LocalDateTime.of(2026, 6, 15, 12, 0);
+
+  private final Scoreboard scoreboard = new Scoreboard();
+  private final int matches;
+  private final int writers;
+  private final int readers;
+  private final Duration runTime;
+  private final double speed;
+  private final double goalsPerMatch;
+  private final double varRate;
+  private final EventRecorder recorder;
+  private final AtomicLong fixtureIds = new AtomicLong();
+  private final long startNanos = System.nanoTime();
+
+  private LoadGenerator(Arguments arguments) {
+    this.matches = arguments.intValue("matches", 2_000);
+    this.writers = arguments.intValue("writers", 4);
+    this.readers = arguments.intValue("readers", 2);
+    this.runTime = Duration.ofSeconds(arguments.intValue("seconds", 30));
+    this.speed = arguments.doubleValue("speed", 600);
+    this.goalsPerMatch = arguments.doubleValue("goals-per-match", 2.7);
+    this.varRate = arguments.doubleValue("var-rate", 0.05);
+    Path recordFile = arguments.pathValue("record");
+    this.recorder = recordFile == null ? null : new EventRecorder(recordFile, startNanos);
+  }
+
+  public static void main(String[] args) throws Exception {
+    new LoadGenerator(Arguments.parse(args)).run();
+  }
+
+  private void run() throws Exception {
+    log.info(
+        "Simulating {} matches at {}x speed for {}s with {} writers and {} readers.",
+        matches,
+        speed,
+        runTime.toSeconds(),
+        writers,
+        readers);
+    long deadline = startNanos + runTime.toNanos();
+    List<Thread> threads = new ArrayList<>();
+    List<WriterStats> writerStats = new ArrayList<>();
+    List<ConcurrentHistogram> readerStats = new ArrayList<>();
+    for (int w = 0; w < writers; w++) {
+      WriterStats stats = new WriterStats();
+      writerStats.add(stats);
+      int fixtures = matches / writers + (w < matches % writers ? 1 : 0);
+      long seed = w;
+      threads.add(
+          Thread.ofPlatform()
+              .name("writer-" + w)
+              .start(() -> write(fixtures, seed, stats, deadline)));
+    }
+    for (int r = 0; r < readers; r++) {
+      ConcurrentHistogram stats = new ConcurrentHistogram();
+      readerStats.add(stats);
+      threads.add(Thread.ofPlatform().name("reader-" + r).start(() -> read(stats, deadline)));
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    if (recorder != null) {
+      recorder.close();
+    }
+    report(writerStats, readerStats, System.nanoTime() - startNanos);
+  }
+
+  private void write(int fixtureCount, long seed, WriterStats stats, long deadline) {
+    SplittableRandom random = new SplittableRandom(seed);
+    PriorityQueue<Fixture> schedule = new PriorityQueue<>();
+    long matchNanos = wallNanos(MATCH_LENGTH);
+    for (int i = 0; i < fixtureCount; i++) {
+      // spread the initial fixtures over the whole match length so they do not all end together
+      Fixture fixture =
+          startFixture(random, stats, startNanos - (long) (random.nextDouble() * matchNanos));
+      schedule.add(fixture);
+    }
+    while (true) {
+      Fixture fixture = schedule.poll();
+      if (fixture == null) {
+        return;
+      }
+      long due = fixture.nextEventAt();
+      if (due >= deadline) {
+        return;
+      }
+      long wait = due - System.nanoTime();
+      if (wait > 0) {
+        LockSupport.parkNanos(wait);
+      }
+      schedule.add(advance(fixture, random, stats));
+    }
+  }
+
+  private Fixture advance(Fixture fixture, SplittableRandom random, WriterStats stats) {
+    long now = System.nanoTime();
+    if (fixture.reviewAt <= fixture.goalAt && fixture.reviewAt <= fixture.endsAt) {
+      review(fixture, random, stats);
+      fixture.reviewAt = Long.MAX_VALUE;
+    } else if (fixture.goalAt <= fixture.endsAt) {
+      goal(fixture, random, stats);
+      fixture.goalAt = now + nextGoalDelay(random);
+      if (random.nextDouble() < varRate) {
+        fixture.reviewAt = now + wallNanos(VAR_REVIEW_DELAY);
+      }
+    } else {
+      long started = System.nanoTime();
+      scoreboard.finishMatch(fixture.match);
+      stats.lifecycle.record(System.nanoTime() - started);
+      if (recorder != null) {
+        recorder.finished(fixture.match);
+      }
+      return startFixture(random, stats, now);
+    }
+    return fixture;
+  }
+
+  private Fixture startFixture(SplittableRandom random, WriterStats stats, long startedAt) {
+    long id = fixtureIds.getAndIncrement();
+    // a bounded pool of team names, as real leagues reuse their teams
+    long pool = 4L * matches;
+    Match match =
+        Match.builder()
+            .homeTeam("Team-" + (2 * id) % pool)
+            .awayTeam("Team-" + (2 * id + 1) % pool)
+            .startTime(KICK_OFF.plusNanos(id * 1_000))
+            .build();
+    long started = System.nanoTime();
+    scoreboard.startMatch(match);
+    stats.lifecycle.record(System.nanoTime() - started);
+    if (recorder != null) {
+      recorder.started(match);
+    }
+    Fixture fixture = new Fixture(match);
+    fixture.endsAt = startedAt + wallNanos(MATCH_LENGTH);
+    fixture.goalAt = System.nanoTime() + nextGoalDelay(random);
+    return fixture;
+  }
+
+  private void goal(Fixture fixture, SplittableRandom random, WriterStats stats) {
+    fixture.lastScorerHome = random.nextDouble() < 0.55;
+    long started = System.nanoTime();
+    fixture.match =
+        fixture.lastScorerHome
+            ? scoreboard.incrementHomeTeamScore(fixture.match)
+            : scoreboard.incrementAwayTeamScore(fixture.match);
+    stats.goals.record(System.nanoTime() - started);
+    if (recorder != null) {
+      if (fixture.lastScorerHome) {
+        recorder.homeGoal(fixture.match);
+      } else {
+        recorder.awayGoal(fixture.match);
+      }
+    }
+  }
+
+  /** Disallows the last goal, either as a decrement or as an absolute score correction. */
+  private void review(Fixture fixture, SplittableRandom random, WriterStats stats) {
+    int home = fixture.match.getScore().homeScore();
+    int away = fixture.match.getScore().awayScore();
+    if ((fixture.lastScorerHome ? home : away) == 0) {
+      return;
+    }
+    long started = System.nanoTime();
+    if (random.nextBoolean()) {
+      fixture.match =
+          fixture.lastScorerHome
+              ? scoreboard.decrementHomeScore(fixture.match)
+              : scoreboard.decrementAwayScore(fixture.match);
+    } else {
+      fixture.match =
+          fixture.lastScorerHome
+              ? scoreboard.updateScore(fixture.match, home - 1, away)
+              : scoreboard.updateScore(fixture.match, home, away - 1);
+    }
+    stats.corrections.record(System.nanoTime() - started);
+    if (recorder != null) {
+      recorder.corrected(fixture.match);
+    }
+  }
+
+  private void read(ConcurrentHistogram stats, long deadline) {
+    while (System.nanoTime() < deadline) {
+      long started = System.nanoTime();
+      scoreboard.getSummary();
+      stats.record(System.nanoTime() - started);
+    }
+  }
+
+  /** Exponentially distributed wall-clock delay until the next goal of one fixture. */
+  private long nextGoalDelay(SplittableRandom random) {
+    double meanNanos = wallNanos(MATCH_LENGTH) / goalsPerMatch;
+    return (long) (-Math.log(1 - random.nextDouble()) * meanNanos);
+  }
+
+  private long wallNanos(Duration simulated) {
+    return (long) (simulated.toNanos() / speed);
+  }
+
+  private void report(
+      List<WriterStats> writerStats, List<ConcurrentHistogram> readerStats, long elapsedNanos) {
+    WriterStats writes = new WriterStats();
+    for (WriterStats stats : writerStats) {
+      writes.goals.merge(stats.goals);
+      writes.corrections.merge(stats.corrections);
+      writes.lifecycle.merge(stats.lifecycle);
+    }
+    ConcurrentHistogram reads = new ConcurrentHistogram();
+    readerStats.forEach(reads::merge);
+    double seconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+    long writeCount = writes.goals.count() + writes.corrections.count() + writes.lifecycle.count();
+    log.info(
+        "Ran {} s, {} matches live at the end.",
+        String.format("%.1f", seconds),
+        scoreboard.getMatchMap().size());
+    log.info("Writes:  {} ops/s", String.format("%.0f", writeCount / seconds));
+    log.info("Reads:   {} ops/s", String.format("%.0f", reads.count() / seconds));
+    log.info("Goals        {}", writes.goals.latencySummary());
+    log.info("Corrections  {}", writes.corrections.latencySummary());
+    log.info("Start/finish {}", writes.lifecycle.latencySummary());
+    log.info("getSummary   {}", reads.latencySummary());
+  }
+
+  private static final class WriterStats {
+    private final ConcurrentHistogram goals = new ConcurrentHistogram();
+    private final ConcurrentHistogram corrections = new ConcurrentHistogram();
+    private final ConcurrentHistogram lifecycle = new ConcurrentHistogram();
+  }
+
+  private static final class Fixture implements Comparable<Fixture> {
+    private Match match;
+    private long goalAt;
+    private long reviewAt = Long.MAX_VALUE;
+    private long endsAt;
+    private boolean lastScorerHome;
+
+    private Fixture(Match match) {
+      this.match = match;
+    }
+
+    private long nextEventAt() {
+      return Math.min(goalAt, Math.min(reviewAt, endsAt));
+    }
+
+    @Override
+    public int compareTo(Fixture other) {
+      return Long.compare(nextEventAt(), other.nextEventAt());
+    }
+  }
+}
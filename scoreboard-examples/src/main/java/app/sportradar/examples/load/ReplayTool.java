@@ -0,0 +1,120 @@
+package app.sportradar.examples.load;
+
+import app.sportradar.adapter.in.FeedEvent;
+import app.sportradar.adapter.in.LineFeedDecoder;
+import app.sportradar.adapter.out.ConcurrentHistogram;
+import app.sportradar.domain.MatchKey;
+import app.sportradar.domain.ScoreEventResult;
+import app.sportradar.domain.Scoreboard;
+import java.io.BufferedReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Replays a recorded event file against a fresh {@link Scoreboard} at {@code --speed} times the
+ * recorded pace ({@code --speed=0} replays as fast as possible) and reports throughput, latency
+ * percentiles and how far the replay fell behind its schedule. Files are written by {@link
+ * LoadGenerator} with {@code --record}; each line is {@code elapsedMillis|feedLine}. Lines that
+ * cannot be parsed are counted as malformed and events the scoreboard refuses as rejected, as in
+ * {@link app.sportradar.adapter.in.IngestionPipeline}; neither stops the replay.
+ *
+ * <pre>
+ * java ... ReplayTool --file=matchday.replay --speed=10
+ * </pre>
+ */
+@Slf4j
+public class ReplayTool {
+
+  public static void main(String[] args) throws Exception {
+    Arguments arguments = Arguments.parse(args);
+    Path file = arguments.pathValue("file");
+    if (file == null) {
+      throw new IllegalArgumentException("Missing --file=<replay file>.");
+    }
+    double speed = arguments.doubleValue("speed", 1);
+
+    Scoreboard scoreboard = new Scoreboard();
+    LineFeedDecoder decoder = new LineFeedDecoder();
+    ConcurrentHistogram latency = new ConcurrentHistogram();
+    long rejected = 0;
+    long malformed = 0;
+    long maxBehindNanos = 0;
+    long startNanos = System.nanoTime();
+    try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.isBlank()) {
+          continue;
+        }
+        long recordedNanos;
+        FeedEvent event;
+        try {
+          int separator = line.indexOf('|');
+          if (separator < 0) {
+            throw new IllegalArgumentException("Missing elapsed time: " + line);
+          }
+          recordedNanos =
+              TimeUnit.MILLISECONDS.toNanos(Long.parseLong(line.substring(0, separator)));
+          event = decoder.decode(line.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+          malformed++;
+          log.warn("Skipping malformed replay line: {}", e.getMessage());
+          continue;
+        }
+        if (speed > 0) {
+          long due = startNanos + (long) (recordedNanos / speed);
+          long wait = due - System.nanoTime();
+          if (wait > 0) {
+            LockSupport.parkNanos(wait);
+          } else {
+            maxBehindNanos = Math.max(maxBehindNanos, -wait);
+          }
+        }
+        long started = System.nanoTime();
+        boolean applied = apply(scoreboard, event);
+        latency.record(System.nanoTime() - started);
+        if (!applied) {
+          rejected++;
+        }
+      }
+    }
+    double seconds = (System.nanoTime() - startNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+    log.info(
+        "Replayed {} events in {} s ({} events/s), {} rejected, {} malformed lines skipped.",
+        latency.count(),
+        String.format("%.2f", seconds),
+        String.format("%.0f", latency.count() / seconds),
+        rejected,
+        malformed);
+    log.info("Latency      {}", latency.latencySummary());
+    log.info(
+        "Max lag behind schedule {} ms, {} matches live at the end.",
+        TimeUnit.NANOSECONDS.toMillis(maxBehindNanos),
+        scoreboard.getMatchMap().size());
+  }
+
+  /** Applies the event, returning whether the scoreboard accepted it. */
+  private static boolean apply(Scoreboard scoreboard, FeedEvent event) {
+    MatchKey key = event.matchKey();
+    try {
+      switch (event) {
+        case FeedEvent.MatchStarted started ->
+            scoreboard.startMatch(key.homeTeam(), key.awayTeam(), key.startTime());
+        case FeedEvent.MatchFinished finished -> scoreboard.finishMatch(key);
+        case FeedEvent.ScoreUpdated update -> {
+          List<ScoreEventResult> results = scoreboard.applyBatch(List.of(update.event()));
+          return results.get(0).isApplied();
+        }
+      }
+      return true;
+    } catch (IllegalArgumentException e) {
+      log.warn("Rejected replay event {}: {}", event, e.getMessage());
+      return false;
+    }
+  }
+}
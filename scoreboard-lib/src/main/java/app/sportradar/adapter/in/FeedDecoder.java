@@ -0,0 +1,11 @@
+package app.sportradar.adapter.in;
+
+/** Turns one raw feed message into a {@link FeedEvent}. */
+@FunctionalInterface
+public interface FeedDecoder {
+
+  /**
+   * @throws IllegalArgumentException if the message is malformed
+   */
+  FeedEvent decode(String message);
+}
@@ -0,0 +1,39 @@
+package app.sportradar.adapter.in;
+
+import app.sportradar.domain.MatchKey;
+import app.sportradar.domain.ScoreEvent;
+
+/** A decoded provider feed message, addressed to one match. */
+public sealed interface FeedEvent {
+
+  MatchKey matchKey();
+
+  record MatchStarted(MatchKey matchKey) implements FeedEvent {
+    public MatchStarted {
+      if (matchKey == null) {
+        throw new IllegalArgumentException("Match key must not be null.");
+      }
+    }
+  }
+
+  record ScoreUpdated(ScoreEvent event) implements FeedEvent {
+    public ScoreUpdated {
+      if (event == null) {
+        throw new IllegalArgumentException("Score event must not be null.");
+      }
+    }
+
+    @Override
+    public MatchKey matchKey() {
+      return event.matchKey();
+    }
+  }
+
+  record MatchFinished(MatchKey matchKey) implements FeedEvent {
+    public MatchFinished {
+      if (matchKey == null) {
+        throw new IllegalArgumentException("Match key must not be null.");
+      }
+    }
+  }
+}
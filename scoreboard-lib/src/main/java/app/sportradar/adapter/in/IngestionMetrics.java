@@ -0,0 +1,16 @@
+package app.sportradar.adapter.in;
+
+import java.time.Duration;
+
+/**
+ * Point-in-time counters of an {@link IngestionPipeline}.
+ *
+ * @param received events decoded and queued so far
+ * @param applied events applied to the scoreboard
+ * @param rejected events the scoreboard refused, e.g. scores of unknown matches
+ * @param malformed messages the decoder could not parse
+ * @param queueDepth events waiting in all lanes
+ * @param lag age of the oldest waiting event, {@link Duration#ZERO} when all lanes are empty
+ */
+public record IngestionMetrics(
+    long received, long applied, long rejected, long malformed, int queueDepth, Duration lag) {}
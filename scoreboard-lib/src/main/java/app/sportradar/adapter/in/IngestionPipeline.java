@@ -0,0 +1,319 @@
+package app.sportradar.adapter.in;
+
+import app.sportradar.domain.MatchKey;
+import app.sportradar.domain.ScoreEvent;
+import app.sportradar.domain.ScoreEventResult;
+import app.sportradar.domain.Scoreboard;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Feeds provider messages into a {@link Scoreboard}, keeping slow reads and parsing away from the
+ * scoreboard mutations.
+ *
+ * <p>Every source is read and decoded on its own virtual thread, so a blocked connection costs no
+ * platform thread. Decoded events are routed by match key into one of a fixed number of lanes. Each
+ * lane is a bounded queue drained by a single writer thread, which gives per-match ordering without
+ * any locking in the pipeline itself; a full lane blocks the readers feeding it, which is the
+ * back-pressure towards the providers. Writers take all queued events at once and hand runs of
+ * score updates to {@link Scoreboard#applyBatch} in one call.
+ *
+ * <p>{@link #metrics()} reports queue depth and lag, the age of the oldest event still waiting.
+ */
+@Slf4j
+public class IngestionPipeline implements Closeable {
+  private static final int DEFAULT_LANES = 16;
+  private static final int DEFAULT_LANE_CAPACITY = 1024;
+  private static final int MAX_DRAIN = 256;
+  private static final Envelope STOP = new Envelope(null, 0L);
+
+  private final Scoreboard scoreboard;
+  private final FeedDecoder decoder;
+  private final Lane[] lanes;
+  private final ExecutorService readers =
+      Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("feed-reader-", 0).factory());
+
+  private final LongAdder received = new LongAdder();
+  private final LongAdder applied = new LongAdder();
+  private final LongAdder rejected = new LongAdder();
+  private final LongAdder malformed = new LongAdder();
+
+  /** Events queued but not yet applied or rejected. */
+  private final AtomicLong inFlight = new AtomicLong();
+
+  /**
+   * Held shared by submitters while they queue and exclusively by {@link #close()} while it marks
+   * the pipeline closed, so that no event can be queued behind the STOP of its lane.
+   */
+  private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+
+  private volatile boolean closed;
+
+  public IngestionPipeline(Scoreboard scoreboard) {
+    this(scoreboard, new LineFeedDecoder(), DEFAULT_LANES, DEFAULT_LANE_CAPACITY);
+  }
+
+  public IngestionPipeline(
+      Scoreboard scoreboard, FeedDecoder decoder, int laneCount, int laneCapacity) {
+    if (scoreboard == null) {
+      throw new IllegalArgumentException("Scoreboard must not be null.");
+    }
+    if (decoder == null) {
+      throw new IllegalArgumentException("Decoder must not be null.");
+    }
+    if (laneCount <= 0 || laneCapacity <= 0) {
+      throw new IllegalArgumentException("Lane count and capacity must be positive.");
+    }
+    this.scoreboard = scoreboard;
+    this.decoder = decoder;
+    this.lanes = new Lane[laneCount];
+    for (int i = 0; i < laneCount; i++) {
+      lanes[i] = new Lane(laneCapacity);
+      lanes[i].writer = Thread.ofVirtual().name("feed-lane-" + i).start(lanes[i]::run);
+    }
+  }
+
+  /**
+   * Reads {@code source} line by line on a new virtual thread until it is exhausted, e.g. a socket
+   * stream or a replay file. The source is closed afterwards.
+   *
+   * @return completes with the number of lines read once all of them are queued
+   */
+  public Future<Long> ingest(Reader source) {
+    if (source == null) {
+      throw new IllegalArgumentException("Source must not be null.");
+    }
+    ensureOpen();
+    return readers.submit(
+        () -> {
+          long lines = 0;
+          try (BufferedReader reader = new BufferedReader(source)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+              if (!line.isBlank()) {
+                submit(line);
+              }
+              lines++;
+            }
+          }
+          return lines;
+        });
+  }
+
+  /** Replays a feed file, see {@link #ingest(Reader)}. */
+  public Future<Long> ingest(Path file) {
+    try {
+      return ingest(Files.newBufferedReader(file, StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not open feed file " + file, e);
+    }
+  }
+
+  /**
+   * Decodes {@code message} on the calling thread and queues it on the lane of its match, waiting
+   * while that lane is full. Malformed messages are counted and dropped.
+   *
+   * @throws IllegalStateException if the pipeline is closed
+   */
+  public void submit(String message) throws InterruptedException {
+    ensureOpen();
+    FeedEvent event;
+    try {
+      event = decoder.decode(message);
+    } catch (IllegalArgumentException e) {
+      malformed.increment();
+      log.warn("Dropping malformed feed message: {}", e.getMessage());
+      return;
+    }
+    Lock submitting = closeLock.readLock();
+    submitting.lockInterruptibly();
+    try {
+      ensureOpen();
+      inFlight.incrementAndGet();
+      try {
+        laneOf(event.matchKey()).queue.put(new Envelope(event, System.nanoTime()));
+      } catch (InterruptedException e) {
+        inFlight.decrementAndGet();
+        throw e;
+      }
+      received.increment();
+    } finally {
+      submitting.unlock();
+    }
+  }
+
+  /** Waits until every queued event has been applied or rejected. */
+  public boolean awaitIdle(Duration timeout) {
+    long deadline = System.nanoTime() + timeout.toNanos();
+    while (inFlight.get() > 0) {
+      if (System.nanoTime() - deadline >= 0) {
+        return false;
+      }
+      LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+    }
+    return true;
+  }
+
+  public IngestionMetrics metrics() {
+    long now = System.nanoTime();
+    int depth = 0;
+    long oldest = 0;
+    for (Lane lane : lanes) {
+      depth += lane.queue.size();
+      Envelope head = lane.queue.peek();
+      if (head != null && head != STOP) {
+        oldest = Math.max(oldest, now - head.enqueuedAt());
+      }
+    }
+    return new IngestionMetrics(
+        received.sum(),
+        applied.sum(),
+        rejected.sum(),
+        malformed.sum(),
+        depth,
+        Duration.ofNanos(oldest));
+  }
+
+  /**
+   * Stops the readers, lets every lane apply what it already queued and stops the lane writers.
+   * Submissions in progress are queued before the lanes stop; later ones are rejected.
+   */
+  @Override
+  public void close() {
+    Lock closing = closeLock.writeLock();
+    closing.lock();
+    try {
+      if (closed) {
+        return;
+      }
+      closed = true;
+    } finally {
+      closing.unlock();
+    }
+    readers.shutdownNow();
+    try {
+      readers.awaitTermination(1, TimeUnit.MINUTES);
+      for (Lane lane : lanes) {
+        lane.queue.put(STOP);
+      }
+      for (Lane lane : lanes) {
+        lane.writer.join();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void ensureOpen() {
+    if (closed) {
+      throw new IllegalStateException("Ingestion pipeline is closed.");
+    }
+  }
+
+  private Lane laneOf(MatchKey key) {
+    int hash = key.hashCode();
+    return lanes[Math.floorMod(hash ^ (hash >>> 16), lanes.length)];
+  }
+
+  private void apply(List<Envelope> batch) {
+    List<ScoreEvent> scoreRun = new ArrayList<>();
+    for (Envelope envelope : batch) {
+      if (envelope.event() instanceof FeedEvent.ScoreUpdated update) {
+        scoreRun.add(update.event());
+        continue;
+      }
+      applyScores(scoreRun);
+      try {
+        applyLifecycle(envelope.event());
+        applied.increment();
+      } catch (IllegalArgumentException e) {
+        rejected.increment();
+        log.warn("Rejected feed event {}: {}", envelope.event(), e.getMessage());
+      }
+    }
+    applyScores(scoreRun);
+  }
+
+  private void applyLifecycle(FeedEvent event) {
+    MatchKey key = event.matchKey();
+    switch (event) {
+      case FeedEvent.MatchStarted started ->
+          scoreboard.startMatch(key.homeTeam(), key.awayTeam(), key.startTime());
+      case FeedEvent.MatchFinished finished -> scoreboard.finishMatch(key);
+      case FeedEvent.ScoreUpdated update -> throw new IllegalStateException("Batched separately.");
+    }
+  }
+
+  private void applyScores(List<ScoreEvent> scoreRun) {
+    if (scoreRun.isEmpty()) {
+      return;
+    }
+    for (ScoreEventResult result : scoreboard.applyBatch(scoreRun)) {
+      if (result.isApplied()) {
+        applied.increment();
+      } else {
+        rejected.increment();
+        log.warn("Rejected score event {}: {}", result.event(), result.failure().getMessage());
+      }
+    }
+    scoreRun.clear();
+  }
+
+  private record Envelope(FeedEvent event, long enqueuedAt) {}
+
+  private final class Lane {
+    private final BlockingQueue<Envelope> queue;
+    private Thread writer;
+
+    private Lane(int capacity) {
+      this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    private void run() {
+      List<Envelope> batch = new ArrayList<>(MAX_DRAIN);
+      while (true) {
+        try {
+          batch.add(queue.take());
+        } catch (InterruptedException e) {
+          return;
+        }
+        queue.drainTo(batch, MAX_DRAIN - 1);
+        boolean stop = batch.remove(STOP);
+        try {
+          apply(batch);
+        } catch (RuntimeException e) {
+          // e.g. a failed journal; keep the lane alive for the next batch
+          log.error("Feed lane failed while applying a batch of {} events.", batch.size(), e);
+        } finally {
+          inFlight.addAndGet(-batch.size());
+          batch.clear();
+        }
+        if (stop) {
+          return;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package app.sportradar.adapter.in;
+
+import app.sportradar.domain.MatchKey;
+import app.sportradar.domain.ScoreEvent;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Decodes the line-based text feed used by replay files and test sockets. Fields are separated by
+ * {@code |}; every line names the match by home team, away team and ISO-8601 start time:
+ *
+ * <pre>
+ * START|Mexico|Canada|2026-06-15T20:00
+ * HOME_GOAL|Mexico|Canada|2026-06-15T20:00
+ * AWAY_GOAL|Mexico|Canada|2026-06-15T20:00
+ * SCORE|Mexico|Canada|2026-06-15T20:00|3|2
+ * FINISH|Mexico|Canada|2026-06-15T20:00
+ * </pre>
+ */
+public final class LineFeedDecoder implements FeedDecoder {
+
+  @Override
+  public FeedEvent decode(String line) {
+    if (line == null) {
+      throw new IllegalArgumentException("Line must not be null.");
+    }
+    String[] fields = line.split("\\|", -1);
+    if (fields.length < 4) {
+      throw new IllegalArgumentException("Malformed feed line: " + line);
+    }
+    // looked up only: the scoreboard registers the names once the match actually starts
+    MatchKey key = MatchKey.of(fields[1], fields[2], parseStartTime(fields[3], line));
+    return switch (fields[0]) {
+      case "START" -> expectFields(new FeedEvent.MatchStarted(key), fields, 4, line);
+      case "HOME_GOAL" ->
+          expectFields(
+              new FeedEvent.ScoreUpdated(ScoreEvent.incrementHomeTeamScore(key)), fields, 4, line);
+      case "AWAY_GOAL" ->
+          expectFields(
+              new FeedEvent.ScoreUpdated(ScoreEvent.incrementAwayTeamScore(key)), fields, 4, line);
+      case "SCORE" ->
+          expectFields(
+              new FeedEvent.ScoreUpdated(
+                  ScoreEvent.updateScore(
+                      key, parseScore(fields, 4, line), parseScore(fields, 5, line))),
+              fields,
+              6,
+              line);
+      case "FINISH" -> expectFields(new FeedEvent.MatchFinished(key), fields, 4, line);
+      default -> throw new IllegalArgumentException("Unknown feed message type: " + line);
+    };
+  }
+
+  private static LocalDateTime parseStartTime(String value, String line) {
+    try {
+      return LocalDateTime.parse(value);
+    } catch (DateTimeParseException e) {
+      throw new IllegalArgumentException("Malformed start time in feed line: " + line, e);
+    }
+  }
+
+  private static int parseScore(String[] fields, int index, String line) {
+    if (index >= fields.length) {
+      throw new IllegalArgumentException("Malformed feed line: " + line);
+    }
+    try {
+      return Integer.parseInt(fields[index]);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Malformed score in feed line: " + line, e);
+    }
+  }
+
+  private static FeedEvent expectFields(FeedEvent event, String[] fields, int count, String line) {
+    if (fields.length != count) {
+      throw new IllegalArgumentException("Malformed feed line: " + line);
+    }
+    return event;
+  }
+}
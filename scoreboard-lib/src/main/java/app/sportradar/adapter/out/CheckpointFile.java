@@ -0,0 +1,221 @@
+package app.sportradar.adapter.out;
+
+import app.sportradar.domain.Match;
+import app.sportradar.domain.Score;
+import app.sportradar.domain.ScoreboardSnapshot;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Compact binary image of a {@link ScoreboardSnapshot}, used as a checkpoint of the write-ahead
+ * log.
+ *
+ * <p>Layout: {@code [int magic][short format][long version][int teamCount]} followed by the team
+ * dictionary (length-prefixed UTF-8 names, each stored once), then {@code [int matchCount]} and one
+ * fixed-size entry per match: {@code [int homeId][int awayId][long epochSecond][int nano][int
+ * packedScore]} with the home score in the upper and the away score in the lower 16 bits. Entries
+ * are stored in summary order. A trailing {@code [int crc]} holds the CRC32 of everything before
+ * it.
+ *
+ * <p>Files are written to a temporary sibling, fsynced, atomically moved into place and the move is
+ * made durable by syncing the directory, so a crash never leaves a half-written checkpoint behind.
+ * Loading maps the file read-only, verifies the checksum and every length and team index against
+ * the file size, and decodes every team name once, sharing the string between all of that team's
+ * matches.
+ */
+final class CheckpointFile {
+  private static final int MAGIC = 0x53424350; // "SBCP"
+  private static final short FORMAT = 2;
+  private static final int HEADER_BYTES = 4 + 2 + 8 + 4;
+  private static final int ENTRY_BYTES = 4 + 4 + 8 + 4 + 4;
+  private static final int CRC_BYTES = 4;
+
+  private CheckpointFile() {}
+
+  static void write(Path file, ScoreboardSnapshot snapshot) throws IOException {
+    Map<String, Integer> teamIds = new HashMap<>();
+    List<byte[]> teams = new ArrayList<>();
+    int[] homeIds = new int[snapshot.size()];
+    int[] awayIds = new int[snapshot.size()];
+    for (int i = 0; i < snapshot.size(); i++) {
+      Match match = snapshot.summary().get(i);
+      homeIds[i] = teamId(match.getHomeTeam(), teamIds, teams);
+      awayIds[i] = teamId(match.getAwayTeam(), teamIds, teams);
+    }
+    int teamBytes = 0;
+    for (byte[] team : teams) {
+      teamBytes += 2 + team.length;
+    }
+
+    ByteBuffer buffer =
+        ByteBuffer.allocate(
+            HEADER_BYTES + teamBytes + 4 + snapshot.size() * ENTRY_BYTES + CRC_BYTES);
+    buffer.putInt(MAGIC).putShort(FORMAT).putLong(snapshot.version()).putInt(teams.size());
+    for (byte[] team : teams) {
+      buffer.putShort((short) team.length).put(team);
+    }
+    buffer.putInt(snapshot.size());
+    for (int i = 0; i < snapshot.size(); i++) {
+      Match match = snapshot.summary().get(i);
+      LocalDateTime startTime = match.getStartTime();
+      buffer
+          .putInt(homeIds[i])
+          .putInt(awayIds[i])
+          .putLong(startTime.toEpochSecond(ZoneOffset.UTC))
+          .putInt(startTime.getNano())
+          .putInt(match.getScore().pack());
+    }
+    buffer.putInt(crc(buffer.array(), buffer.position()));
+    buffer.flip();
+
+    Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+    try (FileChannel channel =
+        FileChannel.open(
+            temporary,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      channel.force(true);
+    }
+    Files.move(
+        temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    syncDirectory(file.toAbsolutePath().getParent());
+  }
+
+  /** Deletes the checkpoint, if any, and makes the deletion durable before returning. */
+  static void delete(Path file) throws IOException {
+    if (Files.deleteIfExists(file)) {
+      syncDirectory(file.toAbsolutePath().getParent());
+    }
+  }
+
+  /** Fsyncs a directory, so that renames and deletions of its entries survive a crash. */
+  static void syncDirectory(Path directory) throws IOException {
+    try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+      channel.force(true);
+    } catch (AccessDeniedException e) {
+      // Windows cannot open directories; its file systems commit the rename without this
+    }
+  }
+
+  private static int crc(byte[] bytes, int length) {
+    CRC32 crc = new CRC32();
+    crc.update(bytes, 0, length);
+    return (int) crc.getValue();
+  }
+
+  private static int teamId(String team, Map<String, Integer> teamIds, List<byte[]> teams) {
+    return teamIds.computeIfAbsent(
+        team,
+        name -> {
+          teams.add(name.getBytes(StandardCharsets.UTF_8));
+          return teams.size() - 1;
+        });
+  }
+
+  /** Loads a checkpoint, or returns {@code null} when {@code file} does not exist. */
+  static ScoreboardSnapshot read(Path file) throws IOException {
+    if (!Files.exists(file)) {
+      return null;
+    }
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size < HEADER_BYTES + 4 + CRC_BYTES || size > Integer.MAX_VALUE) {
+        throw new IOException("Corrupt scoreboard checkpoint " + file + ": bad size " + size + ".");
+      }
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      if (buffer.getInt() != MAGIC) {
+        throw new IOException("Not a scoreboard checkpoint: " + file);
+      }
+      short format = buffer.getShort();
+      if (format != FORMAT) {
+        throw new IOException("Unsupported checkpoint format " + format + " in " + file);
+      }
+      int contentBytes = (int) size - CRC_BYTES;
+      CRC32 crc = new CRC32();
+      crc.update(buffer.slice(0, contentBytes));
+      if ((int) crc.getValue() != buffer.getInt(contentBytes)) {
+        throw new IOException("Corrupt scoreboard checkpoint " + file + ": checksum mismatch.");
+      }
+      buffer.limit(contentBytes);
+      return decode(buffer, file);
+    }
+  }
+
+  private static ScoreboardSnapshot decode(ByteBuffer buffer, Path file) throws IOException {
+    long version = buffer.getLong();
+    int teamCount = buffer.getInt();
+    // every name takes at least its two byte length prefix
+    if (teamCount < 0 || teamCount > (buffer.remaining() - 4) / 2) {
+      throw corrupt(file, "team count " + teamCount);
+    }
+    String[] teams = new String[teamCount];
+    for (int i = 0; i < teams.length; i++) {
+      if (buffer.remaining() < 2 + 4) {
+        throw corrupt(file, "team table");
+      }
+      int length = Short.toUnsignedInt(buffer.getShort());
+      if (length == 0 || length > buffer.remaining() - 4) {
+        throw corrupt(file, "length " + length + " of team " + i);
+      }
+      byte[] encoded = new byte[length];
+      buffer.get(encoded);
+      teams[i] = new String(encoded, StandardCharsets.UTF_8);
+    }
+    int matchCount = buffer.getInt();
+    if (matchCount < 0 || (long) matchCount * ENTRY_BYTES != buffer.remaining()) {
+      throw corrupt(file, "match count " + matchCount);
+    }
+    List<Match> summary = new ArrayList<>(matchCount);
+    for (int i = 0; i < matchCount; i++) {
+      String home = team(teams, buffer.getInt(), i, file);
+      String away = team(teams, buffer.getInt(), i, file);
+      long epochSecond = buffer.getLong();
+      int nano = buffer.getInt();
+      int packedScore = buffer.getInt();
+      try {
+        summary.add(
+            Match.builder()
+                .homeTeam(home)
+                .awayTeam(away)
+                .startTime(LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC))
+                .score(Score.unpack(packedScore))
+                .build());
+      } catch (IllegalArgumentException | DateTimeException e) {
+        throw new IOException(
+            "Corrupt scoreboard checkpoint " + file + ": invalid match " + i + ".", e);
+      }
+    }
+    return new ScoreboardSnapshot(version, summary);
+  }
+
+  private static String team(String[] teams, int id, int match, Path file) throws IOException {
+    if (id < 0 || id >= teams.length) {
+      throw corrupt(file, "team index " + id + " of match " + match);
+    }
+    return teams[id];
+  }
+
+  private static IOException corrupt(Path file, String field) {
+    return new IOException("Corrupt scoreboard checkpoint " + file + ": bad " + field + ".");
+  }
+}
@@ -0,0 +1,119 @@
+package app.sportradar.adapter.out;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe log-linear histogram of non-negative values, in the style of HdrHistogram: every
+ * power-of-two range is split into {@value #SUB_BUCKETS} equal buckets, so percentiles are accurate
+ * to about 3% over the whole {@code long} range in a fixed 15 KB of counters. Recording is one
+ * atomic increment and allocates nothing. Hot recorders can keep one histogram per thread and
+ * {@linkplain #merge(ConcurrentHistogram) merge} them for the report.
+ */
+public final class ConcurrentHistogram {
+  private static final int SUB_BUCKET_BITS = 5;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+  private final AtomicLongArray counts =
+      new AtomicLongArray((64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS);
+  private final LongAdder total = new LongAdder();
+  private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+  /** Records one value; negative values count as 0. */
+  public void record(long value) {
+    long clamped = Math.max(0, value);
+    counts.getAndIncrement(bucketOf(clamped));
+    total.increment();
+    max.accumulate(clamped);
+  }
+
+  /** Adds the values recorded by {@code other} to this histogram. */
+  public void merge(ConcurrentHistogram other) {
+    if (other == null) {
+      throw new IllegalArgumentException("Histogram must not be null.");
+    }
+    for (int i = 0; i < counts.length(); i++) {
+      long count = other.counts.get(i);
+      if (count != 0) {
+        counts.getAndAdd(i, count);
+      }
+    }
+    total.add(other.total.sum());
+    max.accumulate(other.max());
+  }
+
+  public long count() {
+    return total.sum();
+  }
+
+  public long max() {
+    return max.get();
+  }
+
+  /**
+   * Upper bound of the bucket holding the given percentile (0 to 100), or 0 when nothing was
+   * recorded. Values recorded concurrently may or may not be taken into account.
+   */
+  public long percentile(double percentile) {
+    if (percentile < 0 || percentile > 100) {
+      throw new IllegalArgumentException("Percentile must be between 0 and 100.");
+    }
+    long[] snapshot = new long[counts.length()];
+    long recorded = 0;
+    for (int i = 0; i < snapshot.length; i++) {
+      snapshot[i] = counts.get(i);
+      recorded += snapshot[i];
+    }
+    if (recorded == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * recorded));
+    long seen = 0;
+    for (int i = 0; i < snapshot.length; i++) {
+      seen += snapshot[i];
+      if (seen >= rank) {
+        return Math.min(upperBoundOf(i), max());
+      }
+    }
+    return max();
+  }
+
+  /**
+   * One line with the count and the p50, p90, p99, p99.9 and max of nanosecond values, in
+   * microseconds.
+   */
+  public String latencySummary() {
+    return String.format(
+        "n=%d p50=%.1fus p90=%.1fus p99=%.1fus p99.9=%.1fus max=%.1fus",
+        count(),
+        micros(percentile(50)),
+        micros(percentile(90)),
+        micros(percentile(99)),
+        micros(percentile(99.9)),
+        micros(max()));
+  }
+
+  private static double micros(long nanos) {
+    return nanos / (double) TimeUnit.MICROSECONDS.toNanos(1);
+  }
+
+  private static int bucketOf(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    // value >>> exponent keeps the top SUB_BUCKET_BITS + 1 bits, in [SUB_BUCKETS, 2 * SUB_BUCKETS)
+    int exponent = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+    return (exponent + 1) * SUB_BUCKETS + (int) (value >>> exponent) - SUB_BUCKETS;
+  }
+
+  private static long upperBoundOf(int bucket) {
+    if (bucket < SUB_BUCKETS) {
+      return bucket;
+    }
+    int exponent = bucket / SUB_BUCKETS - 1;
+    long topBits = bucket % SUB_BUCKETS + SUB_BUCKETS;
+    return ((topBits + 1) << exponent) - 1;
+  }
+}
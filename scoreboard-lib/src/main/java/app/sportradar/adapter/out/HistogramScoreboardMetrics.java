@@ -0,0 +1,79 @@
+package app.sportradar.adapter.out;
+
+import app.sportradar.domain.Scoreboard;
+import app.sportradar.domain.ScoreboardMetrics;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * Vendor-neutral {@link ScoreboardMetrics} that keeps everything in memory: a latency histogram and
+ * a miss counter per operation, a histogram of summary sizes and the live match gauge. An exporter
+ * for a monitoring system can poll it, or implement {@link ScoreboardMetrics} directly instead.
+ *
+ * <p>One instance is meant for one {@link Scoreboard}; binding it to a second board replaces the
+ * live match gauge.
+ */
+public class HistogramScoreboardMetrics implements ScoreboardMetrics {
+  private final Map<Operation, ConcurrentHistogram> latencies = new EnumMap<>(Operation.class);
+  private final Map<Operation, LongAdder> misses = new EnumMap<>(Operation.class);
+  private final ConcurrentHistogram summarySizes = new ConcurrentHistogram();
+  private volatile IntSupplier liveMatches = () -> 0;
+
+  public HistogramScoreboardMetrics() {
+    for (Operation operation : Operation.values()) {
+      latencies.put(operation, new ConcurrentHistogram());
+      misses.put(operation, new LongAdder());
+    }
+  }
+
+  @Override
+  public void recordLatency(Operation operation, long nanos) {
+    latencies.get(operation).record(nanos);
+  }
+
+  @Override
+  public void recordMiss(Operation operation) {
+    misses.get(operation).increment();
+  }
+
+  @Override
+  public void recordSummarySize(int entries) {
+    summarySizes.record(entries);
+  }
+
+  @Override
+  public void bindLiveMatches(IntSupplier liveMatches) {
+    this.liveMatches = liveMatches;
+  }
+
+  /** Latency distribution of the operation, in nanoseconds. */
+  public ConcurrentHistogram latency(Operation operation) {
+    return latencies.get(operation);
+  }
+
+  /** Number of completed calls of the operation. */
+  public long count(Operation operation) {
+    return latencies.get(operation).count();
+  }
+
+  public long misses(Operation operation) {
+    return misses.get(operation).sum();
+  }
+
+  /** Share of calls of the operation that missed their match, 0 when it was never called. */
+  public double missRate(Operation operation) {
+    long calls = count(operation);
+    return calls == 0 ? 0 : (double) misses(operation) / calls;
+  }
+
+  /** Distribution of the number of entries returned by summary reads. */
+  public ConcurrentHistogram summarySizes() {
+    return summarySizes;
+  }
+
+  public int liveMatches() {
+    return liveMatches.getAsInt();
+  }
+}
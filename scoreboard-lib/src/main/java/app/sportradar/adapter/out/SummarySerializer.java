@@ -0,0 +1,260 @@
+package app.sportradar.adapter.out;
+
+import app.sportradar.domain.Match;
+import app.sportradar.domain.Scoreboard;
+import app.sportradar.domain.ScoreboardSnapshot;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Encodes the summary of a {@link Scoreboard} as JSON or in a compact binary format, without an
+ * object mapper. Every team name is UTF-8 encoded (and JSON-escaped) once and cached, so encoding a
+ * summary is mostly copying bytes.
+ *
+ * <p>The encoded payload of each format is cached per scoreboard version. All readers between two
+ * mutations share one immutable payload, and when the version moves, concurrent readers wait for a
+ * single re-encoding instead of each doing their own. {@link #serialize(Format)} hands out the
+ * shared bytes as a read-only buffer without copying them.
+ *
+ * <p>JSON: {@code {"version":7,"matches":[{"rank":1,"homeTeam":"Mexico","awayTeam":"Canada",
+ * "homeScore":0,"awayScore":5,"startTime":"2026-06-15T20:00:00"}]}}
+ *
+ * <p>Binary, big-endian: {@code long} version, {@code int} match count, then per match in summary
+ * order the home and away team as an unsigned {@code short} byte length followed by the UTF-8
+ * bytes, {@code int} home and away score, the start time as {@code long} epoch second (UTC) and
+ * {@code int} nanosecond.
+ */
+public class SummarySerializer {
+  public enum Format {
+    JSON,
+    BINARY
+  }
+
+  private final Scoreboard scoreboard;
+  private final Map<String, byte[]> jsonNames = new ConcurrentHashMap<>();
+  private final Map<String, byte[]> binaryNames = new ConcurrentHashMap<>();
+  private final AtomicReferenceArray<Payload> payloads =
+      new AtomicReferenceArray<>(Format.values().length);
+
+  public SummarySerializer(Scoreboard scoreboard) {
+    if (scoreboard == null) {
+      throw new IllegalArgumentException("Scoreboard must not be null.");
+    }
+    this.scoreboard = scoreboard;
+  }
+
+  /** Returns the encoded summary at the current version as a read-only buffer over shared bytes. */
+  public ByteBuffer serialize(Format format) {
+    byte[] bytes = payload(format).bytes();
+    return ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+  }
+
+  /**
+   * Copies the encoded summary into {@code target} at its position.
+   *
+   * @throws java.nio.BufferOverflowException if {@code target} has too little room left
+   */
+  public void writeTo(ByteBuffer target, Format format) {
+    if (target == null) {
+      throw new IllegalArgumentException("Target must not be null.");
+    }
+    target.put(payload(format).bytes());
+  }
+
+  public void writeTo(OutputStream target, Format format) throws IOException {
+    if (target == null) {
+      throw new IllegalArgumentException("Target must not be null.");
+    }
+    target.write(payload(format).bytes());
+  }
+
+  private Payload payload(Format format) {
+    if (format == null) {
+      throw new IllegalArgumentException("Format must not be null.");
+    }
+    long version = scoreboard.getVersion();
+    Payload payload = payloads.get(format.ordinal());
+    if (payload != null && payload.version() == version) {
+      return payload;
+    }
+    // one encoder at a time; readers queued behind it re-check and reuse its payload
+    synchronized (payloads) {
+      payload = payloads.get(format.ordinal());
+      ScoreboardSnapshot snapshot = scoreboard.snapshot();
+      if (payload == null || payload.version() != snapshot.version()) {
+        payload = new Payload(snapshot.version(), encode(snapshot, format));
+        payloads.set(format.ordinal(), payload);
+      }
+      return payload;
+    }
+  }
+
+  private byte[] encode(ScoreboardSnapshot snapshot, Format format) {
+    ByteSink sink = new ByteSink(64 + snapshot.size() * 96);
+    if (format == Format.JSON) {
+      encodeJson(snapshot, sink);
+    } else {
+      encodeBinary(snapshot, sink);
+    }
+    return sink.toByteArray();
+  }
+
+  private void encodeJson(ScoreboardSnapshot snapshot, ByteSink sink) {
+    sink.ascii("{\"version\":").decimal(snapshot.version()).ascii(",\"matches\":[");
+    int rank = 0;
+    for (Match match : snapshot.summary()) {
+      if (rank > 0) {
+        sink.ascii(",");
+      }
+      sink.ascii("{\"rank\":").decimal(++rank);
+      sink.ascii(",\"homeTeam\":")
+          .bytes(jsonNames.computeIfAbsent(match.getHomeTeam(), this::json));
+      sink.ascii(",\"awayTeam\":")
+          .bytes(jsonNames.computeIfAbsent(match.getAwayTeam(), this::json));
+      sink.ascii(",\"homeScore\":").decimal(match.getScore().homeScore());
+      sink.ascii(",\"awayScore\":").decimal(match.getScore().awayScore());
+      sink.ascii(",\"startTime\":\"");
+      isoDateTime(match.getStartTime(), sink);
+      sink.ascii("\"}");
+    }
+    sink.ascii("]}");
+  }
+
+  private void encodeBinary(ScoreboardSnapshot snapshot, ByteSink sink) {
+    sink.int64(snapshot.version()).int32(snapshot.size());
+    for (Match match : snapshot.summary()) {
+      sink.bytes(binaryNames.computeIfAbsent(match.getHomeTeam(), this::binary));
+      sink.bytes(binaryNames.computeIfAbsent(match.getAwayTeam(), this::binary));
+      sink.int32(match.getScore().homeScore()).int32(match.getScore().awayScore());
+      LocalDateTime start = match.getStartTime();
+      sink.int64(start.toEpochSecond(ZoneOffset.UTC)).int32(start.getNano());
+    }
+  }
+
+  /** Writes {@code yyyy-MM-ddTHH:mm:ss[.nnnnnnnnn]}, which {@link LocalDateTime#parse} reads. */
+  private static void isoDateTime(LocalDateTime time, ByteSink sink) {
+    if (time.getYear() < 0 || time.getYear() > 9999) {
+      sink.ascii(time.toString());
+      return;
+    }
+    sink.padded(time.getYear(), 4).ascii("-").padded(time.getMonthValue(), 2).ascii("-");
+    sink.padded(time.getDayOfMonth(), 2).ascii("T").padded(time.getHour(), 2).ascii(":");
+    sink.padded(time.getMinute(), 2).ascii(":").padded(time.getSecond(), 2);
+    if (time.getNano() != 0) {
+      sink.ascii(".").padded(time.getNano(), 9);
+    }
+  }
+
+  /** Quoted, escaped UTF-8 JSON string of a team name. */
+  private byte[] json(String name) {
+    StringBuilder quoted = new StringBuilder(name.length() + 2).append('"');
+    for (int i = 0; i < name.length(); i++) {
+      char c = name.charAt(i);
+      if (c == '"' || c == '\\') {
+        quoted.append('\\').append(c);
+      } else if (c < 0x20) {
+        quoted.append(String.format("\\u%04x", (int) c));
+      } else {
+        quoted.append(c);
+      }
+    }
+    return quoted.append('"').toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  /** Length-prefixed UTF-8 bytes of a team name. */
+  private byte[] binary(String name) {
+    byte[] utf8 = name.getBytes(StandardCharsets.UTF_8);
+    if (utf8.length > 0xFFFF) {
+      throw new IllegalArgumentException("Team name is too long to encode.");
+    }
+    byte[] prefixed = new byte[utf8.length + 2];
+    prefixed[0] = (byte) (utf8.length >>> 8);
+    prefixed[1] = (byte) utf8.length;
+    System.arraycopy(utf8, 0, prefixed, 2, utf8.length);
+    return prefixed;
+  }
+
+  private record Payload(long version, byte[] bytes) {}
+
+  /** Growable byte array with the few primitive writes the encoders need. */
+  private static final class ByteSink {
+    private byte[] buffer;
+    private int size;
+
+    private ByteSink(int capacity) {
+      buffer = new byte[capacity];
+    }
+
+    private ByteSink ascii(String text) {
+      ensure(text.length());
+      for (int i = 0; i < text.length(); i++) {
+        buffer[size++] = (byte) text.charAt(i);
+      }
+      return this;
+    }
+
+    private ByteSink bytes(byte[] bytes) {
+      ensure(bytes.length);
+      System.arraycopy(bytes, 0, buffer, size, bytes.length);
+      size += bytes.length;
+      return this;
+    }
+
+    private ByteSink decimal(long value) {
+      if (value < 0) {
+        return ascii(Long.toString(value));
+      }
+      return padded(value, 1);
+    }
+
+    /** Non-negative {@code value} in decimal, left-padded with zeros to {@code width} digits. */
+    private ByteSink padded(long value, int width) {
+      int digits = 1;
+      for (long rest = value / 10; rest > 0; rest /= 10) {
+        digits++;
+      }
+      int length = Math.max(digits, width);
+      ensure(length);
+      for (int i = size + length - 1; i >= size; i--) {
+        buffer[i] = (byte) ('0' + value % 10);
+        value /= 10;
+      }
+      size += length;
+      return this;
+    }
+
+    private ByteSink int32(int value) {
+      ensure(4);
+      for (int shift = 24; shift >= 0; shift -= 8) {
+        buffer[size++] = (byte) (value >>> shift);
+      }
+      return this;
+    }
+
+    private ByteSink int64(long value) {
+      ensure(8);
+      for (int shift = 56; shift >= 0; shift -= 8) {
+        buffer[size++] = (byte) (value >>> shift);
+      }
+      return this;
+    }
+
+    private void ensure(int extra) {
+      if (size + extra > buffer.length) {
+        buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+      }
+    }
+
+    private byte[] toByteArray() {
+      return Arrays.copyOf(buffer, size);
+    }
+  }
+}
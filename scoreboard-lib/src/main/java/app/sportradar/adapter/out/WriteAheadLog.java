@@ -0,0 +1,453 @@
+package app.sportradar.adapter.out;
+
+import app.sportradar.domain.Match;
+import app.sportradar.domain.MatchKey;
+import app.sportradar.domain.Score;
+import app.sportradar.domain.Scoreboard;
+import app.sportradar.domain.ScoreboardEvent;
+import app.sportradar.domain.ScoreboardJournal;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only log of scoreboard mutations, stored as a sequence of segment files in one directory
+ * and written through {@link FileChannel}.
+ *
+ * <p>Each record is framed as {@code [int length][int crc32][payload]} where the payload is {@code
+ * [byte type][long version][home][away][long epochSecond][int nano][short home][short away]} and
+ * team names are length-prefixed UTF-8. Score records carry the absolute score, so replaying a
+ * record twice is harmless.
+ *
+ * <p>Appends only copy the record into an in-memory buffer. There is one buffer per stripe, picked
+ * by match key, each with its own lock: the scoreboard journals inside its per-match update, so a
+ * log-wide lock there would serialize updates of unrelated matches. Records of one match share a
+ * stripe and keep their order; records of different matches may reach the file out of version
+ * order, which replay does not depend on. A background task writes and fsyncs all buffers every
+ * group-commit interval (or earlier once one grows large), so many mutations share one {@code
+ * force}. A crash therefore loses at most the last interval; a torn record at the tail fails its
+ * length or checksum check and is cut off on replay, and a record that does not fit the replayed
+ * state, such as a score change of a match that was never started, is skipped with a warning. If a
+ * group commit fails the log refuses further appends, which aborts the mutations instead of
+ * acknowledging updates that can no longer be made durable.
+ *
+ * <p>{@link #roll()} closes the active segment and starts a new one, so that once a checkpoint
+ * covers the closed segments they can be removed with {@link #deleteSegmentsBefore(long)}.
+ */
+@Slf4j
+final class WriteAheadLog implements Closeable {
+  static final byte MATCH_STARTED = 1;
+  static final byte SCORE_CHANGED = 2;
+  static final byte MATCH_FINISHED = 3;
+
+  private static final String SEGMENT_PREFIX = "segment-";
+  private static final String SEGMENT_SUFFIX = ".wal";
+  private static final int FRAME_HEADER_BYTES = 8;
+  private static final int FLUSH_THRESHOLD_BYTES = 1 << 20;
+
+  private final Path directory;
+  private final ScheduledExecutorService flusher;
+
+  /** Append buffers; a power of two in number, at least one per processor. */
+  private final Stripe[] stripes;
+
+  /** Serializes all channel and segment file operations. */
+  private final Object flushLock = new Object();
+
+  private final AtomicInteger generation = new AtomicInteger();
+  private final AtomicBoolean flushScheduled = new AtomicBoolean();
+  private FileChannel channel;
+  private long activeSegment;
+
+  // written under flushLock, read by appends under their stripe lock
+  private volatile boolean replaying;
+  private volatile boolean failed;
+  private volatile boolean closed;
+
+  WriteAheadLog(Path directory, Duration groupCommitInterval) throws IOException {
+    if (groupCommitInterval == null || groupCommitInterval.isNegative()) {
+      throw new IllegalArgumentException("Group commit interval must not be negative.");
+    }
+    this.directory = Files.createDirectories(directory);
+    this.stripes =
+        new Stripe[Integer.highestOneBit(2 * Runtime.getRuntime().availableProcessors() - 1)];
+    for (int i = 0; i < stripes.length; i++) {
+      stripes[i] = new Stripe();
+    }
+    List<Long> segments = segments();
+    this.activeSegment = segments.isEmpty() ? 1 : segments.get(segments.size() - 1) + 1;
+    this.channel = openSegment(activeSegment);
+    this.flusher =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "scoreboard-wal-flusher");
+              thread.setDaemon(true);
+              return thread;
+            });
+    long intervalMillis = Math.max(1, groupCommitInterval.toMillis());
+    flusher.scheduleWithFixedDelay(
+        this::flushQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Returns a journal for a new scoreboard generation. Journals of earlier generations, i.e. of
+   * scoreboards replaced through {@link #reset()}, silently stop recording.
+   */
+  ScoreboardJournal newJournal() {
+    int journalGeneration = generation.incrementAndGet();
+    return event -> append(journalGeneration, event);
+  }
+
+  /**
+   * Rebuilds the logged state into {@code scoreboard} from every closed segment, in order, and cuts
+   * off torn tails. Only records with a version above {@code afterVersion} are applied, which lets
+   * a checkpoint cover the earlier ones. Records produced by the replay itself are not logged
+   * again.
+   *
+   * @return number of records applied
+   */
+  int replayInto(Scoreboard scoreboard, long afterVersion) throws IOException {
+    synchronized (flushLock) {
+      replaying = true;
+      try {
+        int applied = 0;
+        for (long segment : segments()) {
+          if (segment != activeSegment) {
+            applied += replaySegment(segmentPath(segment), scoreboard, afterVersion);
+          }
+        }
+        return applied;
+      } finally {
+        replaying = false;
+      }
+    }
+  }
+
+  private int replaySegment(Path segment, Scoreboard scoreboard, long afterVersion)
+      throws IOException {
+    if (Files.size(segment) == 0) {
+      Files.delete(segment);
+      return 0;
+    }
+    try (FileChannel segmentChannel =
+        FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      long size = segmentChannel.size();
+      MappedByteBuffer buffer = segmentChannel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      CRC32 checksum = new CRC32();
+      int applied = 0;
+      long validEnd = 0;
+      while (buffer.remaining() >= FRAME_HEADER_BYTES) {
+        int length = buffer.getInt();
+        int expectedCrc = buffer.getInt();
+        if (length <= 0 || length > buffer.remaining()) {
+          break;
+        }
+        ByteBuffer payload = buffer.slice(buffer.position(), length);
+        checksum.reset();
+        checksum.update(payload.duplicate());
+        if ((int) checksum.getValue() != expectedCrc) {
+          break;
+        }
+        buffer.position(buffer.position() + length);
+        try {
+          if (apply(scoreboard, payload, afterVersion)) {
+            applied++;
+          }
+        } catch (IllegalArgumentException e) {
+          // e.g. a score record of a match that neither the checkpoint nor the log starts
+          log.warn("Skipping write-ahead log record in {}: {}", segment, e.getMessage());
+        }
+        validEnd = buffer.position();
+      }
+      if (validEnd < size) {
+        log.warn(
+            "Discarding {} bytes of torn write-ahead log tail in {}.", size - validEnd, segment);
+        segmentChannel.truncate(validEnd);
+      }
+      return applied;
+    }
+  }
+
+  /** Writes and fsyncs everything appended so far. */
+  void flush() throws IOException {
+    synchronized (flushLock) {
+      writeAndForce();
+    }
+  }
+
+  /**
+   * Flushes and closes the active segment and directs all further appends to a new one.
+   *
+   * @return number of the new active segment; every earlier segment is closed
+   */
+  long roll() throws IOException {
+    synchronized (flushLock) {
+      FileChannel next = openSegment(activeSegment + 1);
+      writeAndForce();
+      channel.close();
+      channel = next;
+      activeSegment++;
+      return activeSegment;
+    }
+  }
+
+  /** Deletes the closed segments numbered below {@code segment}. */
+  void deleteSegmentsBefore(long segment) throws IOException {
+    synchronized (flushLock) {
+      for (long existing : segments()) {
+        if (existing < segment && existing != activeSegment) {
+          Files.deleteIfExists(segmentPath(existing));
+        }
+      }
+    }
+  }
+
+  /** Drops every logged record and starts a new generation of journals. */
+  ScoreboardJournal reset() throws IOException {
+    synchronized (flushLock) {
+      // appends check the generation under their stripe lock, so none of the old one survives this
+      ScoreboardJournal journal = newJournal();
+      for (Stripe stripe : stripes) {
+        synchronized (stripe) {
+          stripe.pending.clear();
+        }
+      }
+      deleteSegmentsBefore(activeSegment);
+      channel.truncate(0);
+      channel.force(true);
+      return journal;
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    synchronized (flushLock) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+    }
+    flusher.shutdown();
+    synchronized (flushLock) {
+      try {
+        writeAndForce();
+      } finally {
+        channel.close();
+      }
+    }
+  }
+
+  /**
+   * Writes the buffer of every stripe and fsyncs once. Must be called with {@link #flushLock} held,
+   * which also keeps each stripe's spare buffer to this method.
+   */
+  private void writeAndForce() throws IOException {
+    flushScheduled.set(false);
+    boolean written = false;
+    try {
+      for (Stripe stripe : stripes) {
+        ByteBuffer toWrite;
+        synchronized (stripe) {
+          toWrite = stripe.pending;
+          stripe.pending = stripe.spare;
+          stripe.spare = toWrite;
+        }
+        if (toWrite.position() == 0) {
+          continue;
+        }
+        toWrite.flip();
+        try {
+          while (toWrite.hasRemaining()) {
+            channel.write(toWrite);
+          }
+        } finally {
+          toWrite.clear();
+        }
+        written = true;
+      }
+      if (written) {
+        channel.force(false);
+      }
+    } catch (IOException e) {
+      failed = true;
+      throw e;
+    }
+  }
+
+  private void append(int journalGeneration, ScoreboardEvent event) {
+    Match match =
+        switch (event) {
+          case ScoreboardEvent.MatchStarted started -> started.match();
+          case ScoreboardEvent.ScoreChanged changed -> changed.current();
+          case ScoreboardEvent.MatchFinished finished -> finished.match();
+        };
+    byte type =
+        switch (event) {
+          case ScoreboardEvent.MatchStarted started -> MATCH_STARTED;
+          case ScoreboardEvent.ScoreChanged changed -> SCORE_CHANGED;
+          case ScoreboardEvent.MatchFinished finished -> MATCH_FINISHED;
+        };
+    byte[] home = encodeName(match.getHomeTeam());
+    byte[] away = encodeName(match.getAwayTeam());
+    int payloadLength = 1 + 8 + 2 + home.length + 2 + away.length + 8 + 4 + 2 + 2;
+    LocalDateTime startTime = match.getStartTime();
+
+    Stripe stripe = stripeOf(match.getKey());
+    boolean scheduleFlush;
+    synchronized (stripe) {
+      if (closed) {
+        throw new IllegalStateException("Write-ahead log is closed.");
+      }
+      if (failed) {
+        throw new IllegalStateException("Write-ahead log failed and no longer accepts records.");
+      }
+      if (replaying || journalGeneration != generation.get()) {
+        return;
+      }
+      ByteBuffer pending = stripe.ensureCapacity(FRAME_HEADER_BYTES + payloadLength);
+      int frameStart = pending.position();
+      pending.putInt(payloadLength).putInt(0);
+      int payloadStart = pending.position();
+      pending
+          .put(type)
+          .putLong(event.version())
+          .putShort((short) home.length)
+          .put(home)
+          .putShort((short) away.length)
+          .put(away)
+          .putLong(startTime.toEpochSecond(ZoneOffset.UTC))
+          .putInt(startTime.getNano())
+          .putShort((short) match.getScore().homeScore())
+          .putShort((short) match.getScore().awayScore());
+      stripe.crc.reset();
+      stripe.crc.update(pending.slice(payloadStart, payloadLength));
+      pending.putInt(frameStart + 4, (int) stripe.crc.getValue());
+      scheduleFlush = pending.position() >= FLUSH_THRESHOLD_BYTES / stripes.length;
+    }
+    if (scheduleFlush && flushScheduled.compareAndSet(false, true)) {
+      try {
+        flusher.execute(this::flushQuietly);
+      } catch (RejectedExecutionException e) {
+        // closed after the record was buffered: the final flush of close() writes it, so the
+        // mutation must not fail
+      }
+    }
+  }
+
+  private Stripe stripeOf(MatchKey key) {
+    int hash = key.hashCode();
+    return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+  }
+
+  /** Append buffer of one stripe; its fields are guarded by the stripe's monitor. */
+  private static final class Stripe {
+    private final CRC32 crc = new CRC32();
+    private ByteBuffer pending = ByteBuffer.allocate(16 * 1024);
+    private ByteBuffer spare = ByteBuffer.allocate(16 * 1024);
+
+    /** Returns the pending buffer, grown to hold at least {@code bytes} more. */
+    ByteBuffer ensureCapacity(int bytes) {
+      if (pending.remaining() < bytes) {
+        ByteBuffer larger = ByteBuffer.allocate(Math.max(pending.capacity() * 2, bytes));
+        pending.flip();
+        larger.put(pending);
+        pending = larger;
+      }
+      return pending;
+    }
+  }
+
+  private static boolean apply(Scoreboard scoreboard, ByteBuffer payload, long afterVersion) {
+    byte type = payload.get();
+    long version = payload.getLong();
+    String home = readString(payload);
+    String away = readString(payload);
+    LocalDateTime startTime =
+        LocalDateTime.ofEpochSecond(payload.getLong(), payload.getInt(), ZoneOffset.UTC);
+    Score score = Score.of(payload.getShort(), payload.getShort());
+    if (version <= afterVersion) {
+      return false;
+    }
+    switch (type) {
+      case MATCH_STARTED ->
+          scoreboard.startMatch(
+              Match.builder()
+                  .homeTeam(home)
+                  .awayTeam(away)
+                  .startTime(startTime)
+                  .score(score)
+                  .build());
+      case SCORE_CHANGED ->
+          scoreboard.updateScore(home, away, startTime, score.homeScore(), score.awayScore());
+      case MATCH_FINISHED -> scoreboard.finishMatch(MatchKey.of(home, away, startTime));
+      default -> throw new IllegalStateException("Unknown write-ahead log record type " + type);
+    }
+    return true;
+  }
+
+  private static byte[] encodeName(String name) {
+    byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+    if (bytes.length > 0xFFFF) {
+      throw new IllegalArgumentException("Team name is too long to be logged.");
+    }
+    return bytes;
+  }
+
+  private static String readString(ByteBuffer buffer) {
+    byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private List<Long> segments() throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files
+          .map(path -> path.getFileName().toString())
+          .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+          .map(
+              name ->
+                  Long.parseLong(
+                      name.substring(
+                          SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())))
+          .sorted()
+          .toList();
+    }
+  }
+
+  private Path segmentPath(long segment) {
+    return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, segment, SEGMENT_SUFFIX));
+  }
+
+  private FileChannel openSegment(long segment) throws IOException {
+    return FileChannel.open(
+        segmentPath(segment), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+  }
+
+  private void flushQuietly() {
+    try {
+      flush();
+    } catch (IOException e) {
+      // the log is now failed: further appends are refused, see writeAndForce
+      log.error("Write-ahead log group commit failed.", e);
+    }
+  }
+}
@@ -0,0 +1,190 @@
+package app.sportradar.adapter.out;
+
+import app.sportradar.domain.Match;
+import app.sportradar.domain.Scoreboard;
+import app.sportradar.domain.ScoreboardJournal;
+import app.sportradar.domain.ScoreboardRepository;
+import app.sportradar.domain.ScoreboardSnapshot;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Durable repository that journals every mutation of its scoreboard to a write-ahead log in {@code
+ * directory} and rebuilds the scoreboard on startup from the latest checkpoint plus the log records
+ * written after it. Mutations become durable at the next group commit, see {@link WriteAheadLog};
+ * call {@link #flush()} to force one.
+ *
+ * <p>{@link #checkpoint()} writes the current state as a compact {@link CheckpointFile} and drops
+ * the log segments it covers, which keeps replay time bounded by the activity since the last
+ * checkpoint rather than by the whole history. Checkpoints can also run periodically on a
+ * background thread.
+ *
+ * <p>The scoreboard handed out by {@link #getScoreboard()} is the one being journaled. {@link
+ * #save(Scoreboard)} therefore stores a journaled copy of the given scoreboard rather than the
+ * instance itself, and scoreboards replaced by {@code save} or {@link #clear()} stop being logged.
+ * Both first empty the log and then atomically replace the checkpoint with an empty one, before the
+ * new scoreboard logs anything: a crash in between restarts from the old checkpoint alone, never
+ * from log records that belong to a different state.
+ */
+@Slf4j
+public final class WriteAheadLogScoreboardRepository implements ScoreboardRepository, Closeable {
+  static final Duration DEFAULT_GROUP_COMMIT_INTERVAL = Duration.ofMillis(5);
+  static final String CHECKPOINT_FILE = "checkpoint.bin";
+
+  private final WriteAheadLog writeAheadLog;
+  private final Path checkpointFile;
+  private final ScheduledExecutorService checkpointer;
+  private final AtomicReference<Scoreboard> scoreboardRef = new AtomicReference<>();
+
+  public WriteAheadLogScoreboardRepository(Path directory) {
+    this(directory, DEFAULT_GROUP_COMMIT_INTERVAL, null);
+  }
+
+  /**
+   * @param directory directory holding the log segments and the checkpoint
+   * @param groupCommitInterval how often buffered log records are written and fsynced
+   * @param checkpointInterval how often to checkpoint in the background, or {@code null} to only
+   *     checkpoint on {@link #checkpoint()}
+   */
+  public WriteAheadLogScoreboardRepository(
+      Path directory, Duration groupCommitInterval, Duration checkpointInterval) {
+    if (directory == null) {
+      throw new IllegalArgumentException("Directory must not be null.");
+    }
+    try {
+      this.writeAheadLog = new WriteAheadLog(directory, groupCommitInterval);
+      this.checkpointFile = directory.resolve(CHECKPOINT_FILE);
+      ScoreboardSnapshot checkpoint = CheckpointFile.read(checkpointFile);
+      Scoreboard scoreboard =
+          checkpoint == null
+              ? new Scoreboard(writeAheadLog.newJournal())
+              : new Scoreboard(checkpoint, writeAheadLog.newJournal());
+      writeAheadLog.replayInto(scoreboard, checkpoint == null ? 0L : checkpoint.version());
+      scoreboardRef.set(scoreboard);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not open write-ahead log in " + directory, e);
+    }
+    this.checkpointer = checkpointInterval == null ? null : startCheckpointer(checkpointInterval);
+  }
+
+  @Override
+  public Scoreboard getScoreboard() {
+    return scoreboardRef.get();
+  }
+
+  /** Replaces the logged state with the live matches of {@code scoreboard}. */
+  @Override
+  public synchronized void save(Scoreboard scoreboard) {
+    if (scoreboard == null) {
+      throw new IllegalArgumentException("Scoreboard must not be null.");
+    }
+    try {
+      Scoreboard copy = new Scoreboard(truncate());
+      for (Match match : scoreboard.snapshot().summary()) {
+        copy.startMatch(match);
+      }
+      scoreboardRef.set(copy);
+      writeAheadLog.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not rewrite write-ahead log.", e);
+    }
+  }
+
+  @Override
+  public synchronized void clear() {
+    try {
+      scoreboardRef.set(new Scoreboard(truncate()));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not truncate write-ahead log.", e);
+    }
+  }
+
+  /**
+   * Empties the log, then moves an empty checkpoint into place, and returns the journal for the
+   * replacement scoreboard. The log goes first: its records may refer to matches that only the old
+   * checkpoint holds.
+   */
+  private ScoreboardJournal truncate() throws IOException {
+    ScoreboardJournal journal = writeAheadLog.reset();
+    CheckpointFile.write(checkpointFile, new ScoreboardSnapshot(0L, List.of()));
+    return journal;
+  }
+
+  /**
+   * Writes a checkpoint of the current scoreboard and deletes the log segments it covers. Writers
+   * are only held back while the snapshot is taken, which {@link Scoreboard#snapshot()} reuses when
+   * nothing changed; encoding and writing the file happen without any scoreboard lock.
+   *
+   * <p>The active segment is rolled <i>before</i> the snapshot is taken. Every record in the closed
+   * segments belongs to a mutation that completed before the snapshot, so the checkpoint covers all
+   * of them, while records of the new segment that the checkpoint already contains are skipped on
+   * replay by their version.
+   */
+  public synchronized void checkpoint() {
+    try {
+      long firstUncovered = writeAheadLog.roll();
+      ScoreboardSnapshot snapshot = getScoreboard().snapshot();
+      CheckpointFile.write(checkpointFile, snapshot);
+      writeAheadLog.deleteSegmentsBefore(firstUncovered);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not write checkpoint.", e);
+    }
+  }
+
+  /** Forces a group commit of everything journaled so far. */
+  public void flush() {
+    try {
+      writeAheadLog.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not flush write-ahead log.", e);
+    }
+  }
+
+  /** Stops background checkpoints, flushes pending records and releases the log. */
+  @Override
+  public void close() throws IOException {
+    if (checkpointer != null) {
+      checkpointer.shutdown();
+      try {
+        checkpointer.awaitTermination(1, TimeUnit.MINUTES);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    writeAheadLog.close();
+  }
+
+  private ScheduledExecutorService startCheckpointer(Duration interval) {
+    if (interval.isNegative() || interval.isZero()) {
+      throw new IllegalArgumentException("Checkpoint interval must be positive.");
+    }
+    ScheduledExecutorService executor =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "scoreboard-checkpointer");
+              thread.setDaemon(true);
+              return thread;
+            });
+    executor.scheduleWithFixedDelay(
+        () -> {
+          try {
+            checkpoint();
+          } catch (UncheckedIOException e) {
+            log.error("Background checkpoint failed.", e);
+          }
+        },
+        interval.toMillis(),
+        interval.toMillis(),
+        TimeUnit.MILLISECONDS);
+    return executor;
+  }
+}
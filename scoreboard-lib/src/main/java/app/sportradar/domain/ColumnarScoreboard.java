@@ -0,0 +1,500 @@
+package app.sportradar.domain;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.UnaryOperator;
+
+/**
+ * Scoreboard storage engine for boards with millions of live matches. Instead of one {@link Match}
+ * object graph per match (names, {@code LocalDateTime}, {@link Score}, key and map node) every
+ * match occupies one slot in a set of primitive columns:
+ *
+ * <ul>
+ *   <li>home and away {@link TeamDictionary} ids ({@code int} each),
+ *   <li>start time as nanoseconds since the epoch, interpreted as UTC ({@code long}),
+ *   <li>the {@linkplain Score#pack() packed} score ({@code int}),
+ *   <li>the slot status ({@code byte}).
+ * </ul>
+ *
+ * <p>Slots are found through an open-addressing hash table of slot numbers, and freed slots are
+ * reused. Every slot of capacity costs 21 bytes of columns plus 5.3 to 10.7 bytes of index, so
+ * under 32 bytes, and only a handful of large arrays for the garbage collector to trace. Per live
+ * match that bound only holds on a full or presized board: the columns grow by half when full, so
+ * right after a grow a match costs up to 48 bytes, and capacity is never given back when matches
+ * finish. {@link Match} objects are only materialized on read; score updates return the (usually
+ * {@linkplain Score#of(int, int) shared}) new {@link Score} and allocate nothing.
+ *
+ * <p>The trade-off is on the summary side: there is no ordered index, so {@link #getSummary(int)}
+ * selects the leading entries with a bounded heap in O(n log limit). Materialized matches carry the
+ * team names as the matches were started, trimmed, which are the names the dictionary holds, so
+ * ties are broken exactly as in {@link Scoreboard}. Start times must lie between the years 1677 and
+ * 2262.
+ *
+ * <p>All operations are thread-safe behind a single {@link StampedLock}: reads run in parallel, but
+ * every start, finish and score update is exclusive, so writes do not scale with cores. Feeds with
+ * many concurrent writers should partition matches over several boards, as {@link
+ * ShardedScoreboard} does for {@link Scoreboard}.
+ */
+public class ColumnarScoreboard {
+  private static final byte FREE = 0;
+  private static final byte LIVE = 1;
+  private static final int NO_SLOT = -1;
+  private static final int DEFAULT_CAPACITY = 16;
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+  private final StampedLock lock = new StampedLock();
+
+  private final TeamDictionary teams = TeamDictionary.shared();
+
+  /** Home team id of a live slot; next free slot of a free one. */
+  private int[] homeIds;
+
+  private int[] awayIds;
+  private long[] startNanos;
+  private int[] scores;
+  private byte[] statuses;
+
+  /** Slot number plus one per bucket, {@code 0} marks an empty bucket. Linear probing. */
+  private int[] index;
+
+  private int usedSlots;
+  private int freeSlot = NO_SLOT;
+  private int size;
+
+  public ColumnarScoreboard() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /** Creates a scoreboard sized for {@code expectedMatches} live matches without growing. */
+  public ColumnarScoreboard(int expectedMatches) {
+    if (expectedMatches < 0) {
+      throw new IllegalArgumentException("Expected matches must not be negative.");
+    }
+    allocate(Math.max(expectedMatches, DEFAULT_CAPACITY));
+  }
+
+  /** Starts {@code match}, replacing the score of a live match with the same key. */
+  public void startMatch(Match match) {
+    if (match == null) {
+      throw new IllegalArgumentException("Match must not be null.");
+    }
+    long start = toEpochNanos(match.getStartTime());
+    MatchKey key = match.getKey().register();
+    long stamp = lock.writeLock();
+    try {
+      int home = key.homeTeamId();
+      int away = key.awayTeamId();
+      int slot = findSlot(home, away, start);
+      if (slot == NO_SLOT) {
+        slot = allocateSlot();
+        homeIds[slot] = home;
+        awayIds[slot] = away;
+        startNanos[slot] = start;
+        statuses[slot] = LIVE;
+        insertIntoIndex(slot);
+        size++;
+      }
+      scores[slot] = match.getScore().pack();
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  public void startMatch(String home, String away, LocalDateTime date) {
+    startMatch(Match.builder().homeTeam(home).awayTeam(away).startTime(date).build());
+  }
+
+  public Match findMatch(String home, String away, LocalDateTime date) {
+    return findMatch(MatchKey.of(home, away, date));
+  }
+
+  public Match findMatch(MatchKey key) {
+    long stamp = lock.readLock();
+    try {
+      int slot = findSlot(key);
+      return slot == NO_SLOT ? null : materialize(slot);
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  public void finishMatch(String home, String away, LocalDateTime date) {
+    finishMatch(MatchKey.of(home, away, date));
+  }
+
+  public void finishMatch(MatchKey key) {
+    long stamp = lock.writeLock();
+    try {
+      int slot = findSlot(key);
+      if (slot != NO_SLOT) {
+        removeFromIndex(slot);
+        statuses[slot] = FREE;
+        homeIds[slot] = freeSlot;
+        freeSlot = slot;
+        size--;
+      }
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  public Score incrementHomeTeamScore(String home, String away, LocalDateTime date) {
+    return incrementHomeTeamScore(MatchKey.of(home, away, date));
+  }
+
+  public Score incrementHomeTeamScore(MatchKey key) {
+    return updateScore(key, Score::incrementHomeTeamScore);
+  }
+
+  public Score incrementAwayTeamScore(String home, String away, LocalDateTime date) {
+    return incrementAwayTeamScore(MatchKey.of(home, away, date));
+  }
+
+  public Score incrementAwayTeamScore(MatchKey key) {
+    return updateScore(key, Score::incrementAwayTeamScore);
+  }
+
+  public Score decrementHomeScore(String home, String away, LocalDateTime date) {
+    return decrementHomeScore(MatchKey.of(home, away, date));
+  }
+
+  public Score decrementHomeScore(MatchKey key) {
+    return updateScore(key, Score::decrementHomeScore);
+  }
+
+  public Score decrementAwayScore(String home, String away, LocalDateTime date) {
+    return decrementAwayScore(MatchKey.of(home, away, date));
+  }
+
+  public Score decrementAwayScore(MatchKey key) {
+    return updateScore(key, Score::decrementAwayScore);
+  }
+
+  public Score updateScore(
+      String home, String away, LocalDateTime date, int homeScore, int awayScore) {
+    return updateScore(MatchKey.of(home, away, date), homeScore, awayScore);
+  }
+
+  public Score updateScore(MatchKey key, int homeScore, int awayScore) {
+    Score score = Score.of(homeScore, awayScore);
+    return updateScore(key, previous -> score);
+  }
+
+  public List<Match> getSummary() {
+    return getSummary(Integer.MAX_VALUE);
+  }
+
+  /**
+   * Returns the leading {@code limit} entries in the same order as {@link Scoreboard#getSummary()},
+   * materializing only those entries.
+   */
+  public List<Match> getSummary(int limit) {
+    if (limit <= 0) {
+      throw new IllegalArgumentException("Limit must be positive.");
+    }
+    long stamp = lock.readLock();
+    try {
+      int[] leading = leadingSlots(Math.min(limit, size));
+      List<Match> summary = new ArrayList<>(leading.length);
+      for (int slot : leading) {
+        summary.add(materialize(slot));
+      }
+      return List.copyOf(summary);
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  public SummaryView getSummaryView() {
+    return getSummaryView(Integer.MAX_VALUE);
+  }
+
+  /**
+   * Returns the leading {@code limit} entries as a {@link SummaryView}. The entries are copied into
+   * four primitive arrays instead of being materialized as {@link Match} objects.
+   */
+  public SummaryView getSummaryView(int limit) {
+    if (limit <= 0) {
+      throw new IllegalArgumentException("Limit must be positive.");
+    }
+    long stamp = lock.readLock();
+    try {
+      int[] leading = leadingSlots(Math.min(limit, size));
+      int[] homes = new int[leading.length];
+      int[] aways = new int[leading.length];
+      long[] starts = new long[leading.length];
+      int[] packedScores = new int[leading.length];
+      for (int i = 0; i < leading.length; i++) {
+        int slot = leading[i];
+        homes[i] = homeIds[slot];
+        aways[i] = awayIds[slot];
+        starts[i] = startNanos[slot];
+        packedScores[i] = scores[slot];
+      }
+      return new ColumnarSummaryView(teams, homes, aways, starts, packedScores);
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  /** Number of live matches. */
+  public int size() {
+    long stamp = lock.readLock();
+    try {
+      return size;
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  /**
+   * Bytes held by the match columns and the slot index, including unused capacity. The shared team
+   * dictionary is not counted.
+   */
+  public long getStorageBytes() {
+    long stamp = lock.readLock();
+    try {
+      return (long) homeIds.length * (4 + 4 + 8 + 4 + 1) + (long) index.length * 4;
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  private Score updateScore(MatchKey key, UnaryOperator<Score> scoreUpdater) {
+    if (key == null) {
+      throw new IllegalArgumentException("Match key must not be null.");
+    }
+    long stamp = lock.writeLock();
+    try {
+      int slot = findSlot(key);
+      if (slot == NO_SLOT) {
+        throw new IllegalArgumentException("Match does not exist on the scoreboard.");
+      }
+      Score updated = scoreUpdater.apply(Score.unpack(scores[slot]));
+      scores[slot] = updated.pack();
+      return updated;
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  private Match materialize(int slot) {
+    long start = startNanos[slot];
+    return Match.builder()
+        .homeTeam(teams.name(homeIds[slot]))
+        .awayTeam(teams.name(awayIds[slot]))
+        .startTime(
+            LocalDateTime.ofEpochSecond(
+                Math.floorDiv(start, NANOS_PER_SECOND),
+                (int) Math.floorMod(start, NANOS_PER_SECOND),
+                ZoneOffset.UTC))
+        .score(Score.unpack(scores[slot]))
+        .build();
+  }
+
+  /**
+   * Selects the {@code count} leading live slots in summary order. Keeps a heap of the best slots
+   * seen so far with the weakest one on top, then drains it back to front.
+   */
+  private int[] leadingSlots(int count) {
+    int[] heap = new int[count];
+    int heapSize = 0;
+    for (int slot = 0; slot < usedSlots && count > 0; slot++) {
+      if (statuses[slot] != LIVE) {
+        continue;
+      }
+      if (heapSize < count) {
+        heap[heapSize] = slot;
+        siftUp(heap, heapSize++);
+      } else if (compareSlots(slot, heap[0]) < 0) {
+        heap[0] = slot;
+        siftDown(heap, heapSize);
+      }
+    }
+    int[] leading = new int[heapSize];
+    for (int i = heapSize - 1; i >= 0; i--) {
+      leading[i] = heap[0];
+      heap[0] = heap[i];
+      siftDown(heap, i);
+    }
+    return leading;
+  }
+
+  private void siftUp(int[] heap, int position) {
+    int slot = heap[position];
+    while (position > 0) {
+      int parent = (position - 1) >>> 1;
+      if (compareSlots(heap[parent], slot) >= 0) {
+        break;
+      }
+      heap[position] = heap[parent];
+      position = parent;
+    }
+    heap[position] = slot;
+  }
+
+  private void siftDown(int[] heap, int heapSize) {
+    int slot = heap[0];
+    int position = 0;
+    while (true) {
+      int child = 2 * position + 1;
+      if (child >= heapSize) {
+        break;
+      }
+      if (child + 1 < heapSize && compareSlots(heap[child + 1], heap[child]) > 0) {
+        child++;
+      }
+      if (compareSlots(slot, heap[child]) >= 0) {
+        break;
+      }
+      heap[position] = heap[child];
+      position = child;
+    }
+    heap[position] = slot;
+  }
+
+  /** Same order as {@link Scoreboard#SUMMARY_ORDER}, evaluated on the columns. */
+  private int compareSlots(int a, int b) {
+    int byTotal = Integer.compare(total(scores[b]), total(scores[a]));
+    if (byTotal != 0) {
+      return byTotal;
+    }
+    int byStart = Long.compare(startNanos[b], startNanos[a]);
+    if (byStart != 0) {
+      return byStart;
+    }
+    int byHome = teams.name(homeIds[a]).compareTo(teams.name(homeIds[b]));
+    if (byHome != 0) {
+      return byHome;
+    }
+    return teams.name(awayIds[a]).compareTo(teams.name(awayIds[b]));
+  }
+
+  private static int total(int packedScore) {
+    return (packedScore >>> 16) + (packedScore & 0xFFFF);
+  }
+
+  private int findSlot(MatchKey lookupKey) {
+    MatchKey key = lookupKey.resolve();
+    long start;
+    try {
+      start = toEpochNanos(key.startEpochSecond(), key.startNano());
+    } catch (IllegalArgumentException e) {
+      return NO_SLOT;
+    }
+    return findSlot(key.homeTeamId(), key.awayTeamId(), start);
+  }
+
+  private int findSlot(int home, int away, long start) {
+    int mask = index.length - 1;
+    for (int bucket = hash(home, away, start) & mask; ; bucket = (bucket + 1) & mask) {
+      int entry = index[bucket];
+      if (entry == 0) {
+        return NO_SLOT;
+      }
+      int slot = entry - 1;
+      if (homeIds[slot] == home && awayIds[slot] == away && startNanos[slot] == start) {
+        return slot;
+      }
+    }
+  }
+
+  private int allocateSlot() {
+    if (freeSlot != NO_SLOT) {
+      int slot = freeSlot;
+      freeSlot = homeIds[slot];
+      return slot;
+    }
+    if (usedSlots == homeIds.length) {
+      grow();
+    }
+    return usedSlots++;
+  }
+
+  private void insertIntoIndex(int slot) {
+    int mask = index.length - 1;
+    int bucket = hash(homeIds[slot], awayIds[slot], startNanos[slot]) & mask;
+    while (index[bucket] != 0) {
+      bucket = (bucket + 1) & mask;
+    }
+    index[bucket] = slot + 1;
+  }
+
+  /** Backward-shift deletion, so lookups never need tombstones. */
+  private void removeFromIndex(int slot) {
+    int mask = index.length - 1;
+    int hole = hash(homeIds[slot], awayIds[slot], startNanos[slot]) & mask;
+    while (index[hole] != slot + 1) {
+      hole = (hole + 1) & mask;
+    }
+    for (int bucket = (hole + 1) & mask; index[bucket] != 0; bucket = (bucket + 1) & mask) {
+      int moved = index[bucket] - 1;
+      int ideal = hash(homeIds[moved], awayIds[moved], startNanos[moved]) & mask;
+      // the entry may only move into the hole if its ideal bucket is not in (hole, bucket]
+      boolean staysPut =
+          hole <= bucket ? ideal > hole && ideal <= bucket : ideal > hole || ideal <= bucket;
+      if (!staysPut) {
+        index[hole] = index[bucket];
+        hole = bucket;
+      }
+    }
+    index[hole] = 0;
+  }
+
+  private void grow() {
+    int capacity = homeIds.length;
+    int[] oldHomeIds = homeIds;
+    int[] oldAwayIds = awayIds;
+    long[] oldStartNanos = startNanos;
+    int[] oldScores = scores;
+    byte[] oldStatuses = statuses;
+    allocate(capacity + (capacity >> 1));
+    System.arraycopy(oldHomeIds, 0, homeIds, 0, capacity);
+    System.arraycopy(oldAwayIds, 0, awayIds, 0, capacity);
+    System.arraycopy(oldStartNanos, 0, startNanos, 0, capacity);
+    System.arraycopy(oldScores, 0, scores, 0, capacity);
+    System.arraycopy(oldStatuses, 0, statuses, 0, capacity);
+    for (int slot = 0; slot < usedSlots; slot++) {
+      if (statuses[slot] == LIVE) {
+        insertIntoIndex(slot);
+      }
+    }
+  }
+
+  /** Allocates the columns for {@code capacity} slots and an empty index kept at most 3/4 full. */
+  private void allocate(int capacity) {
+    homeIds = new int[capacity];
+    awayIds = new int[capacity];
+    startNanos = new long[capacity];
+    scores = new int[capacity];
+    statuses = new byte[capacity];
+    long buckets = Long.highestOneBit(((long) capacity * 4 + 2) / 3) << 1;
+    if (buckets > 1 << 30) {
+      throw new IllegalStateException("Scoreboard capacity exceeded.");
+    }
+    index = new int[(int) buckets];
+  }
+
+  private static int hash(int home, int away, long start) {
+    long h = start * 0x9E3779B97F4A7C15L + home * 0xC2B2AE3D27D4EB4FL + away;
+    h ^= h >>> 33;
+    h *= 0xFF51AFD7ED558CCDL;
+    h ^= h >>> 33;
+    return (int) h;
+  }
+
+  private static long toEpochNanos(LocalDateTime startTime) {
+    return toEpochNanos(startTime.toEpochSecond(ZoneOffset.UTC), startTime.getNano());
+  }
+
+  private static long toEpochNanos(long epochSecond, int nano) {
+    try {
+      return Math.addExact(Math.multiplyExact(epochSecond, NANOS_PER_SECOND), nano);
+    } catch (ArithmeticException e) {
+      throw new IllegalArgumentException("Start time is outside the supported range.");
+    }
+  }
+}
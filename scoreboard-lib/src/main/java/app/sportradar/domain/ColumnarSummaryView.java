@@ -0,0 +1,105 @@
+package app.sportradar.domain;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * {@link SummaryView} over columns copied from a {@link ColumnarScoreboard}: one primitive array
+ * per field, sized to the view, so the view holds no object per entry and builds a {@link Match}
+ * only when {@link #match()} asks for one.
+ */
+final class ColumnarSummaryView implements SummaryView {
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+  private final TeamDictionary teams;
+  private final int[] homeIds;
+  private final int[] awayIds;
+  private final long[] startNanos;
+  private final int[] scores;
+  private int position = -1;
+
+  ColumnarSummaryView(
+      TeamDictionary teams, int[] homeIds, int[] awayIds, long[] startNanos, int[] scores) {
+    this.teams = teams;
+    this.homeIds = homeIds;
+    this.awayIds = awayIds;
+    this.startNanos = startNanos;
+    this.scores = scores;
+  }
+
+  @Override
+  public int size() {
+    return homeIds.length;
+  }
+
+  @Override
+  public boolean next() {
+    if (position < homeIds.length) {
+      position++;
+    }
+    return position < homeIds.length;
+  }
+
+  @Override
+  public int rank() {
+    return current() + 1;
+  }
+
+  @Override
+  public String homeTeam() {
+    return teams.name(homeIds[current()]);
+  }
+
+  @Override
+  public String awayTeam() {
+    return teams.name(awayIds[current()]);
+  }
+
+  @Override
+  public int homeTeamId() {
+    return homeIds[current()];
+  }
+
+  @Override
+  public int awayTeamId() {
+    return awayIds[current()];
+  }
+
+  @Override
+  public int homeScore() {
+    return scores[current()] >>> 16;
+  }
+
+  @Override
+  public int awayScore() {
+    return scores[current()] & 0xFFFF;
+  }
+
+  @Override
+  public long startEpochSecond() {
+    return Math.floorDiv(startNanos[current()], NANOS_PER_SECOND);
+  }
+
+  @Override
+  public int startNano() {
+    return (int) Math.floorMod(startNanos[current()], NANOS_PER_SECOND);
+  }
+
+  @Override
+  public Match match() {
+    int entry = current();
+    return Match.builder()
+        .homeTeam(teams.name(homeIds[entry]))
+        .awayTeam(teams.name(awayIds[entry]))
+        .startTime(LocalDateTime.ofEpochSecond(startEpochSecond(), startNano(), ZoneOffset.UTC))
+        .score(Score.unpack(scores[entry]))
+        .build();
+  }
+
+  private int current() {
+    if (position < 0 || position >= homeIds.length) {
+      throw new IllegalStateException("No current entry.");
+    }
+    return position;
+  }
+}
@@ -0,0 +1,7 @@
+package app.sportradar.domain;
+
+/**
+ * Entry of the merged summary of a {@link ScoreboardRegistry}: a match and the competition it is
+ * played in.
+ */
+public record CompetitionMatch(String competitionId, Match match) {}
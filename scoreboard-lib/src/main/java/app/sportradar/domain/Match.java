@@ -1,7 +1,6 @@
 package app.sportradar.domain;
 
 import java.time.LocalDateTime;
-import java.util.Objects;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -11,6 +10,7 @@ public class Match {
   private final String awayTeam;
   private final Score score;
   private final LocalDateTime startTime;
+  private final MatchKey key;
 
   @Builder(toBuilder = true)
   private Match(String homeTeam, String awayTeam, Score score, LocalDateTime startTime) {
@@ -24,15 +24,49 @@ public class Match {
       throw new IllegalArgumentException("A team cannot play against itself.");
     }
 
+    // trim() returns the same instance for already trimmed names, e.g. on toBuilder() copies
     this.homeTeam = homeTeam.trim();
     this.awayTeam = awayTeam.trim();
     this.score = (score == null) ? Score.initial() : score;
     this.startTime = startTime;
+    // looked up only: the names are registered when the match is started, see registered()
+    this.key = MatchKey.lookup(this.homeTeam, this.awayTeam, startTime);
+  }
+
+  /** Copy constructor used by score updates; the identity was already validated by the source. */
+  private Match(Match source, Score score, MatchKey key) {
+    this.homeTeam = source.homeTeam;
+    this.awayTeam = source.awayTeam;
+    this.score = score;
+    this.startTime = source.startTime;
+    this.key = key;
+  }
+
+  /**
+   * Returns this match with its team names registered in the {@linkplain TeamDictionary#shared()
+   * shared dictionary}, i.e. with a resolved key. Called by the scoreboards when the match is
+   * started, which is the only point at which names enter the dictionary.
+   */
+  Match registered() {
+    MatchKey registeredKey = key.register();
+    return registeredKey == key ? this : new Match(this, score, registeredKey);
+  }
+
+  /**
+   * Returns a copy of this match carrying the given score. Cheaper than {@code
+   * toBuilder().score(score).build()} since names, start time and key are shared with this instance
+   * instead of being trimmed, validated and hashed again.
+   */
+  public Match withScore(Score score) {
+    if (score == null) {
+      throw new IllegalArgumentException("Score must not be null.");
+    }
+    return new Match(this, score, key);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(homeTeam, awayTeam, startTime);
+    return key.hashCode();
   }
 
   @Override
@@ -40,9 +74,7 @@ public class Match {
     if (this == o) return true;
     if (o == null || getClass() != o.getClass()) return false;
     Match match = (Match) o;
-    return homeTeam.equals(match.homeTeam)
-        && awayTeam.equals(match.awayTeam)
-        && startTime.equals(match.startTime);
+    return key.equals(match.key);
   }
 
   private void validateStrings(String home, String away) {
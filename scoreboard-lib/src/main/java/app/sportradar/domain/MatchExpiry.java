@@ -0,0 +1,315 @@
+package app.sportradar.domain;
+
+import java.io.Closeable;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Finishes matches whose feed went silent: matches without a change for the idle timeout, and
+ * matches still live long after their start time. It follows the scoreboard through {@link
+ * Scoreboard#subscribe}, so it works with any scoreboard, including journaled ones:
+ *
+ * <pre>{@code
+ * MatchExpiry expiry = new MatchExpiry(Duration.ofMinutes(30), Duration.ofHours(4));
+ * expiry.start(repository.getScoreboard());
+ * }</pre>
+ *
+ * <p>Every start and score change schedules the new state of the match on a hashed timing wheel.
+ * The event is handed to a queue that the ticking thread moves into the wheel, and each tick only
+ * visits the entries due in its slot, never the live matches as a whole. The wheel holds at most
+ * one entry per match: a change unlinks the entry it supersedes in O(1) and a finish removes it. A
+ * due entry finishes its match only if the match is still in exactly the scheduled state, so a
+ * change racing with the tick wins; otherwise the match is rescheduled from its current state.
+ * Matches expire up to one tick plus the event delivery delay late. Start times are interpreted as
+ * UTC, as everywhere on the scoreboard.
+ *
+ * <p>Events a slow expiry misses because its subscriber buffer was full are made up for by
+ * rescheduling the live matches at the next tick, as if they had just changed.
+ */
+@Slf4j
+public class MatchExpiry implements Closeable {
+  static final Duration DEFAULT_TICK = Duration.ofSeconds(1);
+  private static final int WHEEL_SIZE = 4096;
+
+  /** Deadline of the queue entry that reports a finished match. */
+  private static final long FINISHED = Long.MIN_VALUE;
+
+  private final long idleMillis;
+  private final long maxDurationMillis;
+  private final long tickMillis;
+  private final Clock clock;
+  private final Queue<Entry> pending = new ConcurrentLinkedQueue<>();
+  private final LongAdder expired = new LongAdder();
+  private final LongAdder received = new LongAdder();
+
+  /** Heads of the doubly linked entry list of every slot, only touched by the ticking thread. */
+  private final Entry[] wheel = new Entry[WHEEL_SIZE];
+
+  /** The single wheel entry of every scheduled match, only touched by the ticking thread. */
+  private final Map<MatchKey, Entry> scheduled = new HashMap<>();
+
+  private final long startMillis;
+  private long currentTick;
+  private long droppedEvents;
+  private volatile Scoreboard scoreboard;
+  private volatile Flow.Subscription subscription;
+  private volatile boolean closed;
+  private ScheduledExecutorService ticker;
+
+  /**
+   * @param idleTimeout how long a match may go without any change, or {@code null} for no limit
+   * @param maxDuration how long after its start time a match may stay live, or {@code null} for no
+   *     limit
+   */
+  public MatchExpiry(Duration idleTimeout, Duration maxDuration) {
+    this(idleTimeout, maxDuration, DEFAULT_TICK, Clock.systemUTC());
+  }
+
+  MatchExpiry(Duration idleTimeout, Duration maxDuration, Duration tick, Clock clock) {
+    if (idleTimeout == null && maxDuration == null) {
+      throw new IllegalArgumentException("Idle timeout or max duration must be set.");
+    }
+    this.idleMillis = positiveMillis(idleTimeout, "Idle timeout");
+    this.maxDurationMillis = positiveMillis(maxDuration, "Max duration");
+    this.tickMillis = positiveMillis(tick, "Tick");
+    this.clock = clock;
+    this.startMillis = clock.millis();
+  }
+
+  /**
+   * Subscribes to {@code scoreboard} and starts expiring its matches. Matches already live are
+   * scheduled as if they just changed.
+   *
+   * @throws IllegalStateException if the expiry is already started or closed
+   */
+  public synchronized void start(Scoreboard scoreboard) {
+    if (scoreboard == null) {
+      throw new IllegalArgumentException("Scoreboard must not be null.");
+    }
+    if (closed) {
+      throw new IllegalStateException("Expiry is closed.");
+    }
+    if (this.scoreboard != null) {
+      throw new IllegalStateException("Expiry is already started.");
+    }
+    this.scoreboard = scoreboard;
+    this.droppedEvents = scoreboard.getDroppedEventCount();
+    // subscribe first, so that no change slips between the subscription and the scan
+    scoreboard.subscribe(new EventSubscriber());
+    for (Match match : scoreboard.getMatchMap().values()) {
+      schedule(match);
+    }
+    ticker =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "scoreboard-expiry");
+              thread.setDaemon(true);
+              return thread;
+            });
+    ticker.scheduleAtFixedRate(
+        () -> {
+          try {
+            tick();
+          } catch (RuntimeException e) {
+            log.error("Match expiry tick failed.", e);
+          }
+        },
+        tickMillis,
+        tickMillis,
+        TimeUnit.MILLISECONDS);
+  }
+
+  /** Number of matches finished by this expiry so far. */
+  public long getExpiredCount() {
+    return expired.sum();
+  }
+
+  /** Stops the ticking thread and the subscription; matches are no longer expired. */
+  @Override
+  public synchronized void close() {
+    closed = true;
+    if (ticker != null) {
+      ticker.shutdownNow();
+    }
+    Flow.Subscription current = subscription;
+    if (current != null) {
+      current.cancel();
+    }
+  }
+
+  /** Number of scoreboard events delivered to this expiry so far. */
+  long receivedCount() {
+    return received.sum();
+  }
+
+  /** Number of matches holding an entry in the wheel. */
+  synchronized int scheduledCount() {
+    return scheduled.size();
+  }
+
+  /** Advances the wheel to the current time, expiring the matches that are due. */
+  synchronized void tick() {
+    Scoreboard target = scoreboard;
+    if (target == null) {
+      return;
+    }
+    long dropped = target.getDroppedEventCount();
+    if (dropped != droppedEvents) {
+      droppedEvents = dropped;
+      for (Match match : target.getMatchMap().values()) {
+        Entry entry = scheduled.get(match.getKey());
+        if (entry == null || entry.match != match) {
+          schedule(match);
+        }
+      }
+    }
+    for (Entry entry = pending.poll(); entry != null; entry = pending.poll()) {
+      Entry previous =
+          entry.deadlineMillis == FINISHED
+              ? scheduled.remove(entry.match.getKey())
+              : scheduled.put(entry.match.getKey(), entry);
+      if (previous != null) {
+        unlink(previous);
+      }
+      if (entry.deadlineMillis != FINISHED) {
+        place(entry);
+      }
+    }
+    long nowTick = (clock.millis() - startMillis) / tickMillis;
+    while (currentTick <= nowTick) {
+      int slot = (int) (currentTick & (WHEEL_SIZE - 1));
+      Entry entry = wheel[slot];
+      while (entry != null) {
+        Entry next = entry.next;
+        if (entry.rounds > 0) {
+          entry.rounds--;
+        } else {
+          unlink(entry);
+          MatchKey key = entry.match.getKey();
+          scheduled.remove(key);
+          if (target.finishMatchIfUnchanged(key, entry.match)) {
+            expired.increment();
+          } else {
+            // the entry of a newer state may have reached the wheel first, e.g. behind an entry of
+            // the initial scan; the match must stay scheduled
+            Match current = target.getMatchMap().get(key);
+            if (current != null) {
+              schedule(current);
+            }
+          }
+        }
+        entry = next;
+      }
+      currentTick++;
+    }
+  }
+
+  private void onEvent(ScoreboardEvent event) {
+    switch (event) {
+      case ScoreboardEvent.MatchStarted started -> schedule(started.match());
+      case ScoreboardEvent.ScoreChanged changed -> schedule(changed.current());
+      case ScoreboardEvent.MatchFinished finished ->
+          pending.add(new Entry(finished.match(), FINISHED));
+    }
+    received.increment();
+  }
+
+  private void schedule(Match match) {
+    long now = clock.millis();
+    long deadline = Long.MAX_VALUE;
+    if (idleMillis > 0) {
+      deadline = now + idleMillis;
+    }
+    if (maxDurationMillis > 0) {
+      long startedAt = match.getStartTime().toInstant(ZoneOffset.UTC).toEpochMilli();
+      deadline = Math.min(deadline, startedAt + maxDurationMillis);
+    }
+    pending.add(new Entry(match, deadline));
+  }
+
+  /** Links the entry into the slot of its deadline tick, or the current slot if it is overdue. */
+  private void place(Entry entry) {
+    long deadlineTick =
+        Math.max(currentTick, Math.ceilDiv(entry.deadlineMillis - startMillis, tickMillis));
+    entry.rounds = (deadlineTick - currentTick) / WHEEL_SIZE;
+    entry.slot = (int) (deadlineTick & (WHEEL_SIZE - 1));
+    entry.next = wheel[entry.slot];
+    if (entry.next != null) {
+      entry.next.previous = entry;
+    }
+    wheel[entry.slot] = entry;
+  }
+
+  private void unlink(Entry entry) {
+    if (entry.previous != null) {
+      entry.previous.next = entry.next;
+    } else {
+      wheel[entry.slot] = entry.next;
+    }
+    if (entry.next != null) {
+      entry.next.previous = entry.previous;
+    }
+    entry.previous = null;
+    entry.next = null;
+  }
+
+  private static long positiveMillis(Duration duration, String name) {
+    if (duration == null) {
+      return 0;
+    }
+    if (duration.toMillis() <= 0) {
+      throw new IllegalArgumentException(name + " must be positive.");
+    }
+    return duration.toMillis();
+  }
+
+  private final class EventSubscriber implements Flow.Subscriber<ScoreboardEvent> {
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      MatchExpiry.this.subscription = subscription;
+      if (closed) {
+        subscription.cancel();
+      } else {
+        subscription.request(Long.MAX_VALUE);
+      }
+    }
+
+    @Override
+    public void onNext(ScoreboardEvent event) {
+      onEvent(event);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      log.error("Match expiry lost its scoreboard subscription.", throwable);
+    }
+
+    @Override
+    public void onComplete() {}
+  }
+
+  private static final class Entry {
+    private final Match match;
+    private final long deadlineMillis;
+    private long rounds;
+    private int slot;
+    private Entry previous;
+    private Entry next;
+
+    private Entry(Match match, long deadlineMillis) {
+      this.match = match;
+      this.deadlineMillis = deadlineMillis;
+    }
+  }
+}
@@ -0,0 +1,14 @@
+package app.sportradar.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * A scheduled match as imported by {@link Scoreboard#importFixtures}, not yet validated. Validation
+ * happens when the fixture becomes a {@link Match}.
+ */
+public record MatchFixture(String homeTeam, String awayTeam, LocalDateTime startTime) {
+
+  Match toMatch() {
+    return Match.builder().homeTeam(homeTeam).awayTeam(awayTeam).startTime(startTime).build();
+  }
+}
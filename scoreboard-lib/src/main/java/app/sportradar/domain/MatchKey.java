@@ -0,0 +1,276 @@
+package app.sportradar.domain;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Identity of a match on the scoreboard: home team, away team and start time. Unlike the plain
+ * {@code hashCode()} previously used as map key, two different fixtures never share a key even if
+ * their hashes collide, since {@link #equals(Object)} compares every component.
+ *
+ * <p>Teams are held as {@link TeamDictionary} ids and the start time as epoch second plus
+ * nano-of-second (interpreted as UTC), and the hash is computed once on construction, so map
+ * lookups of started matches only compare primitives. Team names match the way the {@linkplain
+ * TeamDictionary#shared() shared dictionary} matches them, case-sensitively by default.
+ *
+ * <p>{@link #of(String, String, LocalDateTime)} and {@link Match} only look names up and never
+ * register them. A key naming a team that was never started is unresolved and compares by its names
+ * instead. Its hash is computed from the same names as the hash of a resolved key, so a key built
+ * before its match was started still finds the match afterwards.
+ */
+public final class MatchKey {
+  private static final ThreadLocal<Probe> PROBES = ThreadLocal.withInitial(Probe::new);
+
+  private final int homeTeamId;
+  private final int awayTeamId;
+  private final long startEpochSecond;
+  private final int startNano;
+  private final int hash;
+
+  /** Trimmed home and away names of an unresolved key, {@code null} once both ids are known. */
+  private final String[] unresolvedTeams;
+
+  private MatchKey(
+      int homeTeamId,
+      int awayTeamId,
+      long startEpochSecond,
+      int startNano,
+      int hash,
+      String[] unresolvedTeams) {
+    this.homeTeamId = homeTeamId;
+    this.awayTeamId = awayTeamId;
+    this.startEpochSecond = startEpochSecond;
+    this.startNano = startNano;
+    this.hash = hash;
+    this.unresolvedTeams = unresolvedTeams;
+  }
+
+  /** Key of an already validated match. */
+  public static MatchKey of(Match match) {
+    if (match == null) {
+      throw new IllegalArgumentException("Match must not be null.");
+    }
+    return match.getKey();
+  }
+
+  /**
+   * Builds a lookup key from raw identifiers without constructing a {@link Match}. Team names are
+   * trimmed the same way {@link Match} does and looked up in the {@linkplain
+   * TeamDictionary#shared() shared dictionary} without registering them.
+   */
+  public static MatchKey of(String homeTeam, String awayTeam, LocalDateTime startTime) {
+    validate(homeTeam, awayTeam, startTime);
+    return lookup(homeTeam.trim(), awayTeam.trim(), startTime);
+  }
+
+  /**
+   * Points the calling thread's lookup probe at the given match and returns it, for {@link
+   * java.util.Map#get} on maps of started matches; a by-name lookup then allocates no key. Returns
+   * {@code null} if either team was never started, since then no scoreboard holds the match. The
+   * probe is overwritten by the thread's next call and must never be stored.
+   */
+  static Object probe(String homeTeam, String awayTeam, LocalDateTime startTime) {
+    validate(homeTeam, awayTeam, startTime);
+    TeamDictionary teams = TeamDictionary.shared();
+    int homeTeamId = teams.lookupId(homeTeam);
+    int awayTeamId = teams.lookupId(awayTeam);
+    if (homeTeamId == TeamDictionary.UNKNOWN || awayTeamId == TeamDictionary.UNKNOWN) {
+      return null;
+    }
+    Probe probe = PROBES.get();
+    probe.homeTeamId = homeTeamId;
+    probe.awayTeamId = awayTeamId;
+    probe.startEpochSecond = startTime.toEpochSecond(ZoneOffset.UTC);
+    probe.startNano = startTime.getNano();
+    probe.hash =
+        computeHash(
+            teams.normalizedName(homeTeamId).hashCode(),
+            teams.normalizedName(awayTeamId).hashCode(),
+            probe.startEpochSecond,
+            probe.startNano);
+    return probe;
+  }
+
+  /** Key of validated, trimmed names; resolved if both teams are registered. */
+  static MatchKey lookup(String homeTeam, String awayTeam, LocalDateTime startTime) {
+    TeamDictionary teams = TeamDictionary.shared();
+    long startEpochSecond = startTime.toEpochSecond(ZoneOffset.UTC);
+    int homeTeamId = teams.lookupId(homeTeam);
+    int awayTeamId = teams.lookupId(awayTeam);
+    if (homeTeamId != TeamDictionary.UNKNOWN && awayTeamId != TeamDictionary.UNKNOWN) {
+      return ofTeamIds(homeTeamId, awayTeamId, startEpochSecond, startTime.getNano());
+    }
+    return new MatchKey(
+        homeTeamId,
+        awayTeamId,
+        startEpochSecond,
+        startTime.getNano(),
+        computeHash(
+            teams.normalize(homeTeam).hashCode(),
+            teams.normalize(awayTeam).hashCode(),
+            startEpochSecond,
+            startTime.getNano()),
+        new String[] {homeTeam, awayTeam});
+  }
+
+  private static MatchKey ofTeamIds(
+      int homeTeamId, int awayTeamId, long startEpochSecond, int startNano) {
+    TeamDictionary teams = TeamDictionary.shared();
+    return new MatchKey(
+        homeTeamId,
+        awayTeamId,
+        startEpochSecond,
+        startNano,
+        computeHash(
+            teams.normalizedName(homeTeamId).hashCode(),
+            teams.normalizedName(awayTeamId).hashCode(),
+            startEpochSecond,
+            startNano),
+        null);
+  }
+
+  /**
+   * Returns this key resolved to team ids if its teams were registered since it was built, or this
+   * key itself. Storage engines that index by id resolve keys before use.
+   */
+  MatchKey resolve() {
+    if (unresolvedTeams == null) {
+      return this;
+    }
+    TeamDictionary teams = TeamDictionary.shared();
+    int homeTeamId = teams.lookupId(unresolvedTeams[0]);
+    int awayTeamId = teams.lookupId(unresolvedTeams[1]);
+    if (homeTeamId == TeamDictionary.UNKNOWN || awayTeamId == TeamDictionary.UNKNOWN) {
+      return this;
+    }
+    return ofTeamIds(homeTeamId, awayTeamId, startEpochSecond, startNano);
+  }
+
+  /** Returns this key resolved to team ids, registering its team names if needed. */
+  MatchKey register() {
+    if (unresolvedTeams == null) {
+      return this;
+    }
+    TeamDictionary teams = TeamDictionary.shared();
+    return ofTeamIds(
+        teams.idOf(unresolvedTeams[0]),
+        teams.idOf(unresolvedTeams[1]),
+        startEpochSecond,
+        startNano);
+  }
+
+  /** Trimmed name of the home team. */
+  public String homeTeam() {
+    return unresolvedTeams != null ? unresolvedTeams[0] : TeamDictionary.shared().name(homeTeamId);
+  }
+
+  /** Trimmed name of the away team. */
+  public String awayTeam() {
+    return unresolvedTeams != null ? unresolvedTeams[1] : TeamDictionary.shared().name(awayTeamId);
+  }
+
+  int homeTeamId() {
+    return homeTeamId;
+  }
+
+  int awayTeamId() {
+    return awayTeamId;
+  }
+
+  long startEpochSecond() {
+    return startEpochSecond;
+  }
+
+  int startNano() {
+    return startNano;
+  }
+
+  public LocalDateTime startTime() {
+    return LocalDateTime.ofEpochSecond(startEpochSecond, startNano, ZoneOffset.UTC);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (!(o instanceof MatchKey other)) return false;
+    if (hash != other.hash
+        || startEpochSecond != other.startEpochSecond
+        || startNano != other.startNano) {
+      return false;
+    }
+    if (unresolvedTeams == null && other.unresolvedTeams == null) {
+      return homeTeamId == other.homeTeamId && awayTeamId == other.awayTeamId;
+    }
+    return normalizedTeam(0).equals(other.normalizedTeam(0))
+        && normalizedTeam(1).equals(other.normalizedTeam(1));
+  }
+
+  /** Normalized name of the home ({@code 0}) or away ({@code 1}) team. */
+  private String normalizedTeam(int side) {
+    TeamDictionary teams = TeamDictionary.shared();
+    if (unresolvedTeams != null) {
+      return teams.normalize(unresolvedTeams[side]);
+    }
+    return teams.normalizedName(side == 0 ? homeTeamId : awayTeamId);
+  }
+
+  @Override
+  public String toString() {
+    return homeTeam() + " vs " + awayTeam() + " @ " + startTime();
+  }
+
+  private static void validate(String homeTeam, String awayTeam, LocalDateTime startTime) {
+    if (homeTeam == null || homeTeam.isBlank()) {
+      throw new IllegalArgumentException("Home team name must not be blank.");
+    }
+    if (awayTeam == null || awayTeam.isBlank()) {
+      throw new IllegalArgumentException("Away team name must not be blank.");
+    }
+    if (startTime == null) {
+      throw new IllegalArgumentException("Start time cannot be null.");
+    }
+  }
+
+  private static int computeHash(
+      int homeTeamHash, int awayTeamHash, long startEpochSecond, int startNano) {
+    int result = homeTeamHash;
+    result = 31 * result + awayTeamHash;
+    result = 31 * result + Long.hashCode(startEpochSecond);
+    result = 31 * result + startNano;
+    return result;
+  }
+
+  /**
+   * Mutable stand-in for a resolved key, see {@link #probe}. It equals the resolved key with the
+   * same identity, which is all {@link java.util.Map#get} asks of its argument; the reverse does
+   * not hold, so it must never be stored in a map.
+   */
+  private static final class Probe {
+    private int homeTeamId;
+    private int awayTeamId;
+    private long startEpochSecond;
+    private int startNano;
+    private int hash;
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof MatchKey key
+          && key.unresolvedTeams == null
+          && key.hash == hash
+          && key.homeTeamId == homeTeamId
+          && key.awayTeamId == awayTeamId
+          && key.startEpochSecond == startEpochSecond
+          && key.startNano == startNano;
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package app.sportradar.domain;
+
+import java.util.List;
+
+/** {@link SummaryView} over an ordered list of existing matches, reading them in place. */
+final class MatchListSummaryView implements SummaryView {
+  private final List<Match> matches;
+  private int position = -1;
+
+  MatchListSummaryView(List<Match> matches) {
+    this.matches = matches;
+  }
+
+  @Override
+  public int size() {
+    return matches.size();
+  }
+
+  @Override
+  public boolean next() {
+    if (position < matches.size()) {
+      position++;
+    }
+    return position < matches.size();
+  }
+
+  @Override
+  public int rank() {
+    current();
+    return position + 1;
+  }
+
+  @Override
+  public String homeTeam() {
+    return current().getHomeTeam();
+  }
+
+  @Override
+  public String awayTeam() {
+    return current().getAwayTeam();
+  }
+
+  @Override
+  public int homeTeamId() {
+    return current().getKey().homeTeamId();
+  }
+
+  @Override
+  public int awayTeamId() {
+    return current().getKey().awayTeamId();
+  }
+
+  @Override
+  public int homeScore() {
+    return current().getScore().homeScore();
+  }
+
+  @Override
+  public int awayScore() {
+    return current().getScore().awayScore();
+  }
+
+  @Override
+  public long startEpochSecond() {
+    return current().getKey().startEpochSecond();
+  }
+
+  @Override
+  public int startNano() {
+    return current().getKey().startNano();
+  }
+
+  @Override
+  public Match match() {
+    return current();
+  }
+
+  private Match current() {
+    if (position < 0 || position >= matches.size()) {
+      throw new IllegalStateException("No current entry.");
+    }
+    return matches.get(position);
+  }
+}
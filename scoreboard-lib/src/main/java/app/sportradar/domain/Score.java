@@ -1,14 +1,37 @@
 package app.sportradar.domain;
 
+/**
+ * Immutable pair of home and away scores.
+ *
+ * <p>Scores are value objects, so the low ones that cover almost every real match are shared:
+ * {@link #of(int, int)} and all derivations return flyweights from a pre-built table for scores
+ * below {@value #CACHED_SCORES}, which makes score updates allocation-free in practice. A score
+ * also fits in a single {@code int} via {@link #pack()} for compact storage. The scoreboard keeps
+ * Score references, which point at those flyweights; the packed form is for storage that holds no
+ * objects at all, such as checkpoint files and {@link ColumnarScoreboard}.
+ */
 public record Score(int homeScore, int awayScore) {
   // constants for validation
   private static final int MIN_SCORE = 0;
   private static final int MAX_SCORE = 999;
   private static final int MAX_TOTAL_SCORE = MAX_SCORE * 2;
 
+  /** Scores with both sides below this value are served from {@link #CACHE}. */
+  static final int CACHED_SCORES = 32;
+
+  private static final Score[] CACHE = new Score[CACHED_SCORES * CACHED_SCORES];
+
+  static {
+    for (int home = 0; home < CACHED_SCORES; home++) {
+      for (int away = 0; away < CACHED_SCORES; away++) {
+        CACHE[home * CACHED_SCORES + away] = new Score(home, away);
+      }
+    }
+  }
+
   /**
-   * This is the *only* way to create a Score so all validation happens here. Every Score creation
-   * passes through this.
+   * All validation happens here, so every Score passes through it, whether it is constructed
+   * directly or taken from the flyweight table.
    */
   public Score {
     validateScore(homeScore, "Home team");
@@ -18,31 +41,55 @@ public record Score(int homeScore, int awayScore) {
 
   /** Just a quick way to initialize a fresh score. */
   public static Score initial() {
-    return new Score(0, 0);
+    return CACHE[0];
+  }
+
+  /**
+   * Returns the score for the given values, shared when it is a cached low score. Prefer this over
+   * the constructor, which always allocates.
+   */
+  public static Score of(int homeScore, int awayScore) {
+    if (homeScore >= 0
+        && homeScore < CACHED_SCORES
+        && awayScore >= 0
+        && awayScore < CACHED_SCORES) {
+      return CACHE[homeScore * CACHED_SCORES + awayScore];
+    }
+    return new Score(homeScore, awayScore);
+  }
+
+  /** Packs this score into one int, home score in the upper and away score in the lower 16 bits. */
+  public int pack() {
+    return homeScore << 16 | awayScore;
+  }
+
+  /** Inverse of {@link #pack()}; validates the values like {@link #of(int, int)}. */
+  public static Score unpack(int packed) {
+    return of(packed >>> 16, packed & 0xFFFF);
   }
 
   /**
-   * Returns a new Score with home team score incremented by 1. Follows immutability pattern -
-   * returns new instance.
+   * Returns a new Score with home team score incremented by 1. Follows immutability pattern - never
+   * modifies this instance.
    */
   public Score incrementHomeTeamScore() {
-    return new Score(homeScore + 1, awayScore);
+    return of(homeScore + 1, awayScore);
   }
 
   /**
-   * Returns a new Score with away team score incremented by 1. Follows immutability pattern -
-   * returns new instance.
+   * Returns a new Score with away team score incremented by 1. Follows immutability pattern - never
+   * modifies this instance.
    */
   public Score incrementAwayTeamScore() {
-    return new Score(homeScore, awayScore + 1);
+    return of(homeScore, awayScore + 1);
   }
 
   public Score decrementHomeScore() {
-    return new Score(homeScore - 1, awayScore);
+    return of(homeScore - 1, awayScore);
   }
 
   public Score decrementAwayScore() {
-    return new Score(homeScore, awayScore - 1);
+    return of(homeScore, awayScore - 1);
   }
 
   /**
@@ -53,7 +100,7 @@ public record Score(int homeScore, int awayScore) {
     if (amount < 0) {
       throw new IllegalArgumentException("Increment amount cannot be negative.");
     }
-    return new Score(homeScore + amount, awayScore);
+    return of(homeScore + amount, awayScore);
   }
 
   /**
@@ -64,7 +111,7 @@ public record Score(int homeScore, int awayScore) {
     if (amount < 0) {
       throw new IllegalArgumentException("Increment amount cannot be negative.");
     }
-    return new Score(homeScore, awayScore + amount);
+    return of(homeScore, awayScore + amount);
   }
 
   /**
@@ -75,7 +122,7 @@ public record Score(int homeScore, int awayScore) {
     if (amount < 0) {
       throw new IllegalArgumentException("Increment amount cannot be negative.");
     }
-    return new Score(homeScore - amount, awayScore);
+    return of(homeScore - amount, awayScore);
   }
 
   /**
@@ -86,7 +133,7 @@ public record Score(int homeScore, int awayScore) {
     if (amount < 0) {
       throw new IllegalArgumentException("Increment amount cannot be negative.");
     }
-    return new Score(homeScore, awayScore - amount);
+    return of(homeScore, awayScore - amount);
   }
 
   /** Return the sum of home team and away team scores. */
@@ -0,0 +1,67 @@
+package app.sportradar.domain;
+
+/**
+ * A single score mutation addressed to a match, used by {@link Scoreboard#applyBatch}. Relative
+ * events carry signed deltas for the home and away score, absolute events carry the new score.
+ * Instances are created through the static factories so amounts are validated up front.
+ */
+public record ScoreEvent(MatchKey matchKey, boolean absolute, int home, int away) {
+
+  public ScoreEvent {
+    if (matchKey == null) {
+      throw new IllegalArgumentException("Match key must not be null.");
+    }
+  }
+
+  public static ScoreEvent incrementHomeTeamScore(MatchKey matchKey) {
+    return new ScoreEvent(matchKey, false, 1, 0);
+  }
+
+  public static ScoreEvent incrementAwayTeamScore(MatchKey matchKey) {
+    return new ScoreEvent(matchKey, false, 0, 1);
+  }
+
+  public static ScoreEvent decrementHomeScore(MatchKey matchKey) {
+    return new ScoreEvent(matchKey, false, -1, 0);
+  }
+
+  public static ScoreEvent decrementAwayScore(MatchKey matchKey) {
+    return new ScoreEvent(matchKey, false, 0, -1);
+  }
+
+  public static ScoreEvent incrementHomeScoreByValue(MatchKey matchKey, int amount) {
+    return new ScoreEvent(matchKey, false, requireAmount(amount), 0);
+  }
+
+  public static ScoreEvent incrementAwayScoreByValue(MatchKey matchKey, int amount) {
+    return new ScoreEvent(matchKey, false, 0, requireAmount(amount));
+  }
+
+  public static ScoreEvent decrementHomeScoreByValue(MatchKey matchKey, int amount) {
+    return new ScoreEvent(matchKey, false, -requireAmount(amount), 0);
+  }
+
+  public static ScoreEvent decrementAwayScoreByValue(MatchKey matchKey, int amount) {
+    return new ScoreEvent(matchKey, false, 0, -requireAmount(amount));
+  }
+
+  /** Sets the score of the match to the given absolute values. */
+  public static ScoreEvent updateScore(MatchKey matchKey, int homeScore, int awayScore) {
+    return new ScoreEvent(matchKey, true, homeScore, awayScore);
+  }
+
+  /** Returns the score resulting from applying this event. Validation runs in {@link Score}. */
+  public Score applyTo(Score score) {
+    if (absolute) {
+      return Score.of(home, away);
+    }
+    return Score.of(score.homeScore() + home, score.awayScore() + away);
+  }
+
+  private static int requireAmount(int amount) {
+    if (amount < 0) {
+      throw new IllegalArgumentException("Increment amount cannot be negative.");
+    }
+    return amount;
+  }
+}
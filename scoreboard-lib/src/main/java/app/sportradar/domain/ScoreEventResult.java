@@ -0,0 +1,22 @@
+package app.sportradar.domain;
+
+/**
+ * Outcome of one {@link ScoreEvent} applied through {@link Scoreboard#applyBatch}. Exactly one of
+ * {@code match} (the updated match) and {@code failure} is set. Failures are {@link
+ * IllegalArgumentException}s for unknown matches and invalid scores, or whatever the {@link
+ * ScoreboardJournal} threw.
+ */
+public record ScoreEventResult(ScoreEvent event, Match match, RuntimeException failure) {
+
+  static ScoreEventResult applied(ScoreEvent event, Match match) {
+    return new ScoreEventResult(event, match, null);
+  }
+
+  static ScoreEventResult failed(ScoreEvent event, RuntimeException failure) {
+    return new ScoreEventResult(event, null, failure);
+  }
+
+  public boolean isApplied() {
+    return failure == null;
+  }
+}
@@ -1,58 +1,605 @@
 package app.sportradar.domain;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
 import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.extern.slf4j.Slf4j;
 
 @Getter
-@Slf4j
 public class Scoreboard {
-  private final Map<Integer, Match> matchMap = new ConcurrentHashMap<>();
+  /**
+   * Summary ordering: total score descending, then most recently started first. Team names break
+   * the remaining ties so that distinct matches never compare as equal inside the summary index.
+   */
+  static final Comparator<Match> SUMMARY_ORDER =
+      Comparator.comparingInt((Match m) -> m.getScore().total())
+          .reversed()
+          .thenComparing(Comparator.comparing(Match::getStartTime).reversed())
+          .thenComparing(Match::getHomeTeam)
+          .thenComparing(Match::getAwayTeam);
+
+  private final Map<MatchKey, Match> matchMap = new ConcurrentHashMap<>();
+
+  /**
+   * Live matches kept in summary order. Maintained on every start, update and finish so that {@link
+   * #getSummary()} is an ordered walk instead of a full sort.
+   */
+  @Getter(AccessLevel.NONE)
+  private final NavigableSet<Match> summaryIndex = new ConcurrentSkipListSet<>(SUMMARY_ORDER);
+
+  /**
+   * Separates mutations from readers that need a consistent view. Note the inverted use of the lock
+   * modes: mutations (single or batched) hold it in shared <i>read</i> mode, so they never block
+   * each other, while summary readers hold it in exclusive <i>write</i> mode and therefore only
+   * ever observe the board between mutations, never in the middle of a batch. Bulk starts are the
+   * exception and hold the exclusive mode, see {@link #startMatches}. Snapshot rebuilds first try
+   * without the lock, see {@link #snapshot()}.
+   */
+  @Getter(AccessLevel.NONE)
+  private final StampedLock consistencyLock = new StampedLock();
+
+  /** Bumped by every mutation that changes the board, while holding the shared mode above. */
+  @Getter(AccessLevel.NONE)
+  private final AtomicLong version = new AtomicLong();
+
+  /** Imports of at least this many fixtures validate them in parallel. */
+  private static final int PARALLEL_IMPORT_THRESHOLD = 2048;
+
+  /** Number of recent mutations {@link #diff} can look back over. */
+  static final int CHANGE_LOG_CAPACITY = 8192;
+
+  /**
+   * Recent mutations for {@link #diff}, indexed by version modulo {@link #CHANGE_LOG_CAPACITY}.
+   * Created by {@link #enableDiff()}, so boards that are never diffed do not pay for it.
+   */
+  @Getter(AccessLevel.NONE)
+  private volatile AtomicReferenceArray<ChangeRecord> changeLog;
+
+  /** Version at which the change log was switched on; published by the write of the log. */
+  @Getter(AccessLevel.NONE)
+  private long changeLogStart;
+
+  /** Last published snapshot; reused by {@link #snapshot()} until the version moves. */
+  @Getter(AccessLevel.NONE)
+  private volatile ScoreboardSnapshot latestSnapshot = ScoreboardSnapshot.empty();
+
+  /** Serializes snapshot rebuilds, so concurrent readers share one; mutations never take it. */
+  @Getter(AccessLevel.NONE)
+  private final Object rebuildLock = new Object();
+
+  /** Lock-free rebuild attempts before a rebuild falls back to the exclusive lock mode. */
+  private static final int OPTIMISTIC_REBUILD_ATTEMPTS = 2;
+
+  /**
+   * Delivers {@link ScoreboardEvent}s asynchronously. Each subscriber gets a bounded buffer; events
+   * offered to a full buffer are dropped for that subscriber instead of blocking the mutating
+   * thread.
+   */
+  @Getter(AccessLevel.NONE)
+  private final SubmissionPublisher<ScoreboardEvent> eventPublisher = new SubmissionPublisher<>();
+
+  @Getter(AccessLevel.NONE)
+  private final LongAdder droppedEvents = new LongAdder();
+
+  @Getter(AccessLevel.NONE)
+  private final ScoreboardJournal journal;
+
+  @Getter(AccessLevel.NONE)
+  private final ScoreboardMetrics metrics;
+
+  /** Whether {@link #metrics} records anything; checked before reading the clock. */
+  @Getter(AccessLevel.NONE)
+  private final boolean metricsEnabled;
 
   public Scoreboard() {
-    // no explicit constructor is needed for this data structure.
+    this(ScoreboardJournal.NONE);
   }
 
+  /** Creates a scoreboard that reports every change to the given journal. */
+  public Scoreboard(ScoreboardJournal journal) {
+    this(journal, ScoreboardMetrics.NONE);
+  }
+
+  /**
+   * Creates a scoreboard that reports every change to the given journal and times its operations
+   * with the given metrics.
+   */
+  public Scoreboard(ScoreboardJournal journal, ScoreboardMetrics metrics) {
+    if (journal == null) {
+      throw new IllegalArgumentException("Journal must not be null.");
+    }
+    if (metrics == null) {
+      throw new IllegalArgumentException("Metrics must not be null.");
+    }
+    this.journal = journal;
+    this.metrics = metrics;
+    this.metricsEnabled = metrics != ScoreboardMetrics.NONE;
+    metrics.bindLiveMatches(matchMap::size);
+  }
+
+  /**
+   * Creates a scoreboard holding the state of {@code initialState}, continuing from its version.
+   * The restored matches are not reported to the journal, which only receives later changes; used
+   * to load checkpoints.
+   */
+  public Scoreboard(ScoreboardSnapshot initialState, ScoreboardJournal journal) {
+    this(journal);
+    if (initialState == null) {
+      throw new IllegalArgumentException("Initial state must not be null.");
+    }
+    List<Match> summary = new ArrayList<>(initialState.size());
+    for (Match match : initialState.summary()) {
+      Match registered = match.registered();
+      matchMap.put(registered.getKey(), registered);
+      summaryIndex.add(registered);
+      summary.add(registered);
+    }
+    version.set(initialState.version());
+    latestSnapshot = new ScoreboardSnapshot(initialState.version(), summary);
+  }
+
+  /**
+   * Registers a subscriber for change events. Events of one match arrive in the order the mutations
+   * were applied. A subscriber that falls behind by more than its buffer loses events (see {@link
+   * #getDroppedEventCount()}) rather than stalling the scoring threads, and should resynchronize
+   * from {@link #snapshot()} when it notices a gap in the versions.
+   */
+  public void subscribe(Flow.Subscriber<? super ScoreboardEvent> subscriber) {
+    eventPublisher.subscribe(subscriber);
+  }
+
+  /** Number of events dropped so far because a subscriber's buffer was full. */
+  public long getDroppedEventCount() {
+    return droppedEvents.sum();
+  }
+
+  /**
+   * Returns the live matches in summary order. The list is memoized with the {@link #snapshot()}:
+   * while the board does not change every caller gets the same immutable list, and after a mutation
+   * concurrent callers share a single O(n) rebuild. That rebuild only stalls writers when they keep
+   * it from completing without a lock; use {@link #getSummary(int)} when the leading entries are
+   * enough.
+   */
   public List<Match> getSummary() {
-    return matchMap.values().stream()
-        .sorted(
-            Comparator.comparingInt((Match m) -> m.getScore().total())
-                .reversed()
-                .thenComparing(Comparator.comparing(Match::getStartTime).reversed()))
-        .toList();
+    long started = startTimer();
+    List<Match> summary = currentSnapshot().summary();
+    recordSummary(started, summary.size());
+    return summary;
+  }
+
+  /**
+   * Returns the summary as a {@link SummaryView} over the same cached list as {@link
+   * #getSummary()}; reading it allocates nothing per entry.
+   */
+  public SummaryView getSummaryView() {
+    long started = startTimer();
+    List<Match> summary = currentSnapshot().summary();
+    recordSummary(started, summary.size());
+    return new MatchListSummaryView(summary);
+  }
+
+  /** Returns the leading {@code limit} entries of the summary, copying only those entries. */
+  public List<Match> getSummary(int limit) {
+    return getSummaryPage(limit, null).matches();
+  }
+
+  /**
+   * Returns up to {@code limit} summary entries following {@code cursor}, or the leading entries
+   * when {@code cursor} is {@code null}. Costs O(log n + limit) either way: between mutations the
+   * page is cut from the cached summary of {@link #snapshot()} without any lock, by a binary search
+   * for the cursor position and a copy of the page. After a mutation the page is walked from the
+   * summary index instead, under the exclusive mode of the consistency lock, so writers wait for
+   * the walk of {@code limit} entries but never for a copy of the whole board.
+   */
+  public SummaryPage getSummaryPage(int limit, SummaryCursor cursor) {
+    if (limit <= 0) {
+      throw new IllegalArgumentException("Limit must be positive.");
+    }
+    long started = startTimer();
+    ScoreboardSnapshot cached = latestSnapshot;
+    SummaryPage result =
+        cached.version() == version.get()
+            ? pageOf(cached.summary(), limit, cursor)
+            : walkIndex(limit, cursor);
+    recordSummary(started, result.matches().size());
+    return result;
+  }
+
+  private static SummaryPage pageOf(List<Match> summary, int limit, SummaryCursor cursor) {
+    int from = cursor == null ? 0 : positionAfter(summary, cursor.lastEntry());
+    int to = (int) Math.min((long) from + limit, summary.size());
+    SummaryCursor next = to < summary.size() ? new SummaryCursor(summary.get(to - 1)) : null;
+    return new SummaryPage(summary.subList(from, to), next);
+  }
+
+  private SummaryPage walkIndex(int limit, SummaryCursor cursor) {
+    long stamp = consistencyLock.writeLock();
+    try {
+      Iterator<Match> entries =
+          (cursor == null ? summaryIndex : summaryIndex.tailSet(cursor.lastEntry(), false))
+              .iterator();
+      List<Match> page = new ArrayList<>(Math.min(limit, matchMap.size()));
+      while (page.size() < limit && entries.hasNext()) {
+        page.add(entries.next());
+      }
+      SummaryCursor next = entries.hasNext() ? new SummaryCursor(page.get(page.size() - 1)) : null;
+      return new SummaryPage(page, next);
+    } finally {
+      consistencyLock.unlockWrite(stamp);
+    }
+  }
+
+  /**
+   * Returns an immutable view of the board at its current version. While nothing changes this is a
+   * volatile read of the last published snapshot. After a mutation the first caller rebuilds it and
+   * concurrent callers wait for and reuse that rebuild instead of repeating it.
+   *
+   * <p>The rebuild copies the summary index without any lock while the lock is free, and keeps the
+   * copy if the version did not move in the meantime; every mutation bumps the version before it
+   * touches the index, so such a copy never contains half of a mutation or batch. Only when
+   * mutations interfere with {@value #OPTIMISTIC_REBUILD_ATTEMPTS} attempts in a row does it copy
+   * under the exclusive mode of the consistency lock, which stalls all writers of this board for
+   * the O(n) copy.
+   */
+  public ScoreboardSnapshot snapshot() {
+    long started = startTimer();
+    ScoreboardSnapshot current = currentSnapshot();
+    stopTimer(ScoreboardMetrics.Operation.SNAPSHOT, started);
+    return current;
+  }
+
+  private ScoreboardSnapshot currentSnapshot() {
+    ScoreboardSnapshot current = latestSnapshot;
+    if (current.version() == version.get()) {
+      return current;
+    }
+    synchronized (rebuildLock) {
+      current = latestSnapshot;
+      if (current.version() == version.get()) {
+        return current;
+      }
+      current = rebuildOptimistically();
+      if (current == null) {
+        long stamp = consistencyLock.writeLock();
+        try {
+          current = new ScoreboardSnapshot(version.get(), List.copyOf(summaryIndex));
+        } finally {
+          consistencyLock.unlockWrite(stamp);
+        }
+      }
+      latestSnapshot = current;
+      return current;
+    }
+  }
+
+  /** Copies the summary index without the lock, or returns {@code null} if mutations interfered. */
+  private ScoreboardSnapshot rebuildOptimistically() {
+    for (int attempt = 0; attempt < OPTIMISTIC_REBUILD_ATTEMPTS; attempt++) {
+      long expectedVersion = version.get();
+      if (!consistencyLock.isReadLocked() && !consistencyLock.isWriteLocked()) {
+        List<Match> summary = List.copyOf(summaryIndex);
+        if (version.get() == expectedVersion) {
+          return new ScoreboardSnapshot(expectedVersion, summary);
+        }
+      }
+      Thread.onSpinWait();
+    }
+    return null;
+  }
+
+  /**
+   * Returns the changes that turn the summary of {@code from} into the summary of {@code to}, both
+   * taken from this board. Costs O(c log n) for c changed matches, independent of the matches that
+   * did not change.
+   *
+   * <p>Diffs must be switched on with {@link #enableDiff()} before the snapshots are taken. Returns
+   * {@code null} only when the range is no longer within the last {@value #CHANGE_LOG_CAPACITY}
+   * mutations; the caller then falls back to the full summary of {@code to}.
+   *
+   * @throws IllegalStateException if diffs were not enabled on this board
+   * @throws IllegalArgumentException if {@code from} is newer than {@code to} or was taken before
+   *     diffs were enabled
+   */
+  public SummaryDelta diff(ScoreboardSnapshot from, ScoreboardSnapshot to) {
+    if (from == null || to == null) {
+      throw new IllegalArgumentException("Snapshots must not be null.");
+    }
+    if (from.version() > to.version()) {
+      throw new IllegalArgumentException("From snapshot must not be newer than to snapshot.");
+    }
+    AtomicReferenceArray<ChangeRecord> log = changeLog;
+    if (log == null) {
+      throw new IllegalStateException("Diffs are not enabled on this scoreboard.");
+    }
+    if (from.version() < changeLogStart) {
+      throw new IllegalArgumentException("From snapshot was taken before diffs were enabled.");
+    }
+    if (to.version() - from.version() > CHANGE_LOG_CAPACITY) {
+      return null;
+    }
+    // earliest previous and latest current match of every key changed in the range
+    Map<MatchKey, Match[]> changed = new LinkedHashMap<>();
+    for (long v = from.version() + 1; v <= to.version(); v++) {
+      ChangeRecord record = log.get((int) (v % CHANGE_LOG_CAPACITY));
+      if (record == null || record.version() != v) {
+        return null;
+      }
+      Match any = record.current() != null ? record.current() : record.previous();
+      Match[] range = changed.get(any.getKey());
+      if (range == null) {
+        changed.put(any.getKey(), new Match[] {record.previous(), record.current()});
+      } else {
+        range[1] = record.current();
+      }
+    }
+    return delta(from, to, changed.values());
+  }
+
+  /**
+   * Builds the delta from {@code from} to {@code to} out of the earliest previous and latest
+   * current match of every changed key, or returns {@code null} if a match is missing from the
+   * summary it should be in. Shared with {@link ShardedScoreboard}, whose shards report the ranges.
+   */
+  static SummaryDelta delta(
+      ScoreboardSnapshot from, ScoreboardSnapshot to, Collection<Match[]> changed) {
+    List<SummaryChange> changes = new ArrayList<>(changed.size());
+    for (Match[] range : changed) {
+      Match previous = range[0];
+      Match current = range[1];
+      if (previous == null && current == null
+          || previous != null
+              && current != null
+              && SUMMARY_ORDER.compare(previous, current) == 0
+              && previous.getScore().equals(current.getScore())) {
+        continue;
+      }
+      int fromPosition = positionOf(from, previous);
+      int toPosition = positionOf(to, current);
+      if (previous != null && fromPosition < 0 || current != null && toPosition < 0) {
+        return null;
+      }
+      changes.add(SummaryChange.of(previous, fromPosition, current, toPosition));
+    }
+    changes.sort(
+        Comparator.comparing((SummaryChange change) -> change.current() == null)
+            .thenComparingInt(SummaryChange::toPosition)
+            .thenComparingInt(SummaryChange::fromPosition));
+    return new SummaryDelta(from.version(), to.version(), changes);
+  }
+
+  /** Index of the first entry ordered after {@code entry}, which need not be on the board. */
+  private static int positionAfter(List<Match> summary, Match entry) {
+    int position = Collections.binarySearch(summary, entry, SUMMARY_ORDER);
+    return position >= 0 ? position + 1 : -position - 1;
+  }
+
+  private static int positionOf(ScoreboardSnapshot snapshot, Match match) {
+    if (match == null) {
+      return -1;
+    }
+    int position = Collections.binarySearch(snapshot.summary(), match, SUMMARY_ORDER);
+    return position >= 0 ? position : -1;
+  }
+
+  /**
+   * Switches on the change log behind {@link #diff}, from the current version on. Call it before
+   * handing out the snapshots to diff, e.g. right after creating the board; it records every later
+   * mutation at the cost of one small object each. Calling it again has no effect.
+   */
+  public void enableDiff() {
+    if (changeLog != null) {
+      return;
+    }
+    // exclusive, so that no mutation is between its version bump and its change record
+    long stamp = consistencyLock.writeLock();
+    try {
+      if (changeLog == null) {
+        changeLogStart = version.get();
+        changeLog = new AtomicReferenceArray<>(CHANGE_LOG_CAPACITY);
+      }
+    } finally {
+      consistencyLock.unlockWrite(stamp);
+    }
+  }
+
+  /** Number of mutations applied to this scoreboard so far. */
+  public long getVersion() {
+    return version.get();
   }
 
   public Match findMatch(String home, String away, LocalDateTime date) {
-    int hash = Match.builder().homeTeam(home).awayTeam(away).startTime(date).build().hashCode();
-    return matchMap.get(hash);
+    // a reused probe instead of a new key, so that looking a match up by name allocates nothing
+    return findStored(MatchKey.probe(home, away, date));
   }
 
   public Match findMatch(Match match) {
-    int hash = match.hashCode();
-    return matchMap.get(hash);
+    return findMatch(match.getKey());
+  }
+
+  public Match findMatch(MatchKey key) {
+    if (key == null) {
+      throw new IllegalArgumentException("Match key must not be null.");
+    }
+    return findStored(key);
+  }
+
+  /**
+   * Looks up a {@link MatchKey} or {@linkplain MatchKey#probe probe}; {@code null} finds nothing.
+   */
+  Match findStored(Object key) {
+    long started = startTimer();
+    Match match = key != null ? matchMap.get(key) : null;
+    if (metricsEnabled && match == null) {
+      metrics.recordMiss(ScoreboardMetrics.Operation.FIND_MATCH);
+    }
+    stopTimer(ScoreboardMetrics.Operation.FIND_MATCH, started);
+    return match;
   }
 
   public void finishMatch(String home, String away, LocalDateTime date) {
-    int hash = Match.builder().homeTeam(home).awayTeam(away).startTime(date).build().hashCode();
-    matchMap.remove(hash);
+    finishMatch(MatchKey.of(home, away, date));
   }
 
   public void finishMatch(Match match) {
-    matchMap.remove(match.hashCode());
+    finishMatch(match.getKey());
+  }
+
+  public void finishMatch(MatchKey key) {
+    finishMatch(key, null);
+  }
+
+  /**
+   * Finishes the match only if {@code expected} is still its current state, i.e. it was not updated
+   * since; used by {@link MatchExpiry}. Returns whether the match was finished.
+   */
+  boolean finishMatchIfUnchanged(MatchKey key, Match expected) {
+    return finishMatch(key, expected) != null;
+  }
+
+  /** Finishes the match, or only if it is still {@code expected} when that is not null. */
+  private Match finishMatch(MatchKey key, Match expected) {
+    long started = startTimer();
+    long stamp = consistencyLock.readLock();
+    Match[] finished = new Match[1];
+    try {
+      // checked before the removal, so a finish racing with another finish may go uncounted
+      if (metricsEnabled && !matchMap.containsKey(key)) {
+        metrics.recordMiss(ScoreboardMetrics.Operation.FINISH_MATCH);
+      }
+      matchMap.computeIfPresent(
+          key,
+          (k, storedMatch) -> {
+            if (expected != null && storedMatch != expected) {
+              return storedMatch;
+            }
+            finished[0] = storedMatch;
+            long newVersion = version.incrementAndGet();
+            if (hasListeners()) {
+              emit(new ScoreboardEvent.MatchFinished(newVersion, storedMatch));
+            }
+            logChange(newVersion, storedMatch, null);
+            summaryIndex.remove(storedMatch);
+            return null;
+          });
+    } finally {
+      consistencyLock.unlockRead(stamp);
+      stopTimer(ScoreboardMetrics.Operation.FINISH_MATCH, started);
+    }
+    return finished[0];
   }
 
   public void startMatch(Match match) {
-    matchMap.put(match.hashCode(), match);
+    long started = startTimer();
+    long stamp = consistencyLock.readLock();
+    try {
+      putMatch(match);
+    } finally {
+      consistencyLock.unlockRead(stamp);
+      stopTimer(ScoreboardMetrics.Operation.START_MATCH, started);
+    }
   }
 
   public void startMatch(String home, String away, LocalDateTime date) {
     Match match = Match.builder().homeTeam(home).awayTeam(away).startTime(date).build();
-    matchMap.put(match.hashCode(), match);
+    startMatch(match);
+  }
+
+  /**
+   * Starts all matches as one batch, for loading the fixtures of a match day. The batch is checked
+   * and its team names are registered in one pass before the board is locked. It is then applied
+   * under a single exclusive section of the consistency lock: no other mutation interleaves with
+   * it, and summary readers and snapshots observe none or all of it. {@link #findMatch} and {@link
+   * #getMatchMap()} take no lock and can observe part of a batch in progress.
+   *
+   * <p>Every match is still journaled and published as its own {@link ScoreboardEvent.MatchStarted}
+   * with its own version. If the journal rejects one, the matches before it stay started, the rest
+   * are not, and the exception propagates. Matches sharing a key replace each other in iteration
+   * order, as with repeated {@link #startMatch(Match)} calls.
+   */
+  public void startMatches(Collection<Match> matches) {
+    if (matches == null) {
+      throw new IllegalArgumentException("Matches must not be null.");
+    }
+    List<Match> registered = new ArrayList<>(matches.size());
+    for (Match match : matches) {
+      if (match == null) {
+        throw new IllegalArgumentException("Matches must not contain null.");
+      }
+      registered.add(match.registered());
+    }
+    long started = startTimer();
+    long stamp = consistencyLock.writeLock();
+    try {
+      // no other mutation runs, so plain map writes replace the per-match compute
+      for (Match match : registered) {
+        Match previousMatch = matchMap.get(match.getKey());
+        long newVersion = version.incrementAndGet();
+        if (hasListeners()) {
+          emit(new ScoreboardEvent.MatchStarted(newVersion, match));
+        }
+        logChange(newVersion, previousMatch, match);
+        if (previousMatch != null) {
+          summaryIndex.remove(previousMatch);
+        }
+        summaryIndex.add(match);
+        matchMap.put(match.getKey(), match);
+      }
+    } finally {
+      consistencyLock.unlockWrite(stamp);
+      stopTimer(ScoreboardMetrics.Operation.START_MATCHES, started);
+    }
+  }
+
+  /**
+   * Validates the fixtures into matches, in parallel for large imports, and starts them with {@link
+   * #startMatches(Collection)}. An invalid fixture fails the whole import before any match is
+   * started.
+   */
+  public void importFixtures(Collection<MatchFixture> fixtures) {
+    if (fixtures == null) {
+      throw new IllegalArgumentException("Fixtures must not be null.");
+    }
+    Stream<MatchFixture> stream =
+        fixtures.size() >= PARALLEL_IMPORT_THRESHOLD
+            ? fixtures.parallelStream()
+            : fixtures.stream();
+    startMatches(stream.map(MatchFixture::toMatch).toList());
+  }
+
+  private void putMatch(Match startedMatch) {
+    Match match = startedMatch.registered();
+    matchMap.compute(
+        match.getKey(),
+        (k, previousMatch) -> {
+          long newVersion = version.incrementAndGet();
+          if (hasListeners()) {
+            emit(new ScoreboardEvent.MatchStarted(newVersion, match));
+          }
+          logChange(newVersion, previousMatch, match);
+          if (previousMatch != null) {
+            summaryIndex.remove(previousMatch);
+          }
+          summaryIndex.add(match);
+          return match;
+        });
   }
 
   public Match incrementHomeTeamScore(Match match) {
@@ -120,58 +667,169 @@ public class Scoreboard {
   }
 
   public Match updateScore(Match match, int homeScore, int awayScore) {
-    Match storedMatch = requireMatch(match);
-    return persistUpdatedMatch(storedMatch, homeScore, awayScore);
+    return updateScore(match, score -> Score.of(homeScore, awayScore));
   }
 
   public Match updateScore(
       String home, String away, LocalDateTime date, int homeScore, int awayScore) {
-    Match storedMatch = requireMatch(home, away, date);
-    return persistUpdatedMatch(storedMatch, homeScore, awayScore);
-  }
-
-  private Match persistUpdatedMatch(Match match, int homeScore, int awayScore) {
-    Score updatedScore = new Score(homeScore, awayScore);
-    Match updatedMatch = match.toBuilder().score(updatedScore).build();
-    matchMap.put(updatedMatch.hashCode(), updatedMatch);
-    return updatedMatch;
+    return updateScore(home, away, date, score -> Score.of(homeScore, awayScore));
   }
 
   private Match updateScore(Match match, UnaryOperator<Score> scoreUpdater) {
-    Match storedMatch = requireMatch(match);
-    return persistUpdatedMatch(storedMatch, scoreUpdater);
+    if (match == null) {
+      throw new IllegalArgumentException("Match must not be null.");
+    }
+    return updateScore(match.getKey(), scoreUpdater);
   }
 
   private Match updateScore(
       String home, String away, LocalDateTime date, UnaryOperator<Score> scoreUpdater) {
-    Match storedMatch = requireMatch(home, away, date);
-    return persistUpdatedMatch(storedMatch, scoreUpdater);
+    return updateScore(MatchKey.of(home, away, date), scoreUpdater);
+  }
+
+  /**
+   * Applies all events in one pass and reports the outcome of each one, in order. Events whose
+   * match is not on the scoreboard, whose resulting score fails validation or that the journal
+   * rejects are reported as failed and do not stop the remaining events. Summary readers observe
+   * either none or all of the batch.
+   */
+  public List<ScoreEventResult> applyBatch(Collection<ScoreEvent> events) {
+    if (events == null) {
+      throw new IllegalArgumentException("Events must not be null.");
+    }
+    long started = startTimer();
+    List<ScoreEventResult> results = new ArrayList<>(events.size());
+    long stamp = consistencyLock.readLock();
+    try {
+      for (ScoreEvent event : events) {
+        results.add(applyEvent(event));
+      }
+    } finally {
+      consistencyLock.unlockRead(stamp);
+      stopTimer(ScoreboardMetrics.Operation.APPLY_BATCH, started);
+    }
+    return results;
+  }
+
+  private ScoreEventResult applyEvent(ScoreEvent event) {
+    try {
+      Match updatedMatch = persistUpdatedMatch(event.matchKey(), event::applyTo);
+      if (updatedMatch == null) {
+        if (metricsEnabled) {
+          metrics.recordMiss(ScoreboardMetrics.Operation.APPLY_BATCH);
+        }
+        return ScoreEventResult.failed(
+            event, new IllegalArgumentException("Match does not exist on the scoreboard."));
+      }
+      return ScoreEventResult.applied(event, updatedMatch);
+    } catch (RuntimeException e) {
+      // validation failures and journal failures alike leave the match unchanged
+      return ScoreEventResult.failed(event, e);
+    }
   }
 
-  private Match persistUpdatedMatch(Match match, UnaryOperator<Score> scoreUpdater) {
-    Score updatedScore = scoreUpdater.apply(match.getScore());
-    Match updatedMatch = match.toBuilder().score(updatedScore).build();
-    matchMap.put(updatedMatch.hashCode(), updatedMatch);
+  /** Key-based score update for callers that already hold the key, such as the sharded board. */
+  Match updateScore(MatchKey key, UnaryOperator<Score> scoreUpdater) {
+    long started = startTimer();
+    long stamp = consistencyLock.readLock();
+    Match updatedMatch;
+    try {
+      updatedMatch = persistUpdatedMatch(key, scoreUpdater);
+    } finally {
+      consistencyLock.unlockRead(stamp);
+      stopTimer(ScoreboardMetrics.Operation.UPDATE_SCORE, started);
+    }
+    if (updatedMatch == null) {
+      if (metricsEnabled) {
+        metrics.recordMiss(ScoreboardMetrics.Operation.UPDATE_SCORE);
+      }
+      throw new IllegalArgumentException("Match does not exist on the scoreboard.");
+    }
     return updatedMatch;
   }
 
-  private Match requireMatch(Match match) {
-    if (match == null) {
-      throw new IllegalArgumentException("Match must not be null.");
+  /**
+   * Applies the score update as a single atomic read-modify-write on the map entry of the match, so
+   * concurrent updates of the same match never lose a goal and an update racing with {@link
+   * #finishMatch(MatchKey)} can never re-insert the finished match. Updates of different matches
+   * only contend when their keys share a map bin.
+   *
+   * @return the updated match, or {@code null} when the match is not on the scoreboard
+   */
+  private Match persistUpdatedMatch(MatchKey key, UnaryOperator<Score> scoreUpdater) {
+    return matchMap.computeIfPresent(
+        key,
+        (k, storedMatch) -> {
+          Match updatedMatch = storedMatch.withScore(scoreUpdater.apply(storedMatch.getScore()));
+          long newVersion = version.incrementAndGet();
+          if (hasListeners()) {
+            emit(new ScoreboardEvent.ScoreChanged(newVersion, storedMatch, updatedMatch));
+          }
+          logChange(newVersion, storedMatch, updatedMatch);
+          // remove first: an update that keeps the total compares equal to the stored entry
+          summaryIndex.remove(storedMatch);
+          summaryIndex.add(updatedMatch);
+          return updatedMatch;
+        });
+  }
+
+  /** Reads the clock for an operation timing, or returns 0 without it when metrics are off. */
+  private long startTimer() {
+    return metricsEnabled ? System.nanoTime() : 0L;
+  }
+
+  private void stopTimer(ScoreboardMetrics.Operation operation, long started) {
+    if (metricsEnabled) {
+      metrics.recordLatency(operation, System.nanoTime() - started);
     }
-    Match storedMatch = findMatch(match);
-    if (storedMatch == null) {
-      log.info("Match does not exist on the scoreboard.");
-      throw new IllegalArgumentException("Match does not exist on the scoreboard.");
+  }
+
+  private void recordSummary(long started, int entries) {
+    if (metricsEnabled) {
+      metrics.recordLatency(ScoreboardMetrics.Operation.GET_SUMMARY, System.nanoTime() - started);
+      metrics.recordSummarySize(entries);
     }
-    return storedMatch;
   }
 
-  private Match requireMatch(String home, String away, LocalDateTime date) {
-    Match storedMatch = findMatch(home, away, date);
-    if (storedMatch == null) {
-      throw new IllegalArgumentException("Match does not exist on the scoreboard.");
+  /**
+   * Records the mutation for {@link #diff} once the change log is on; a volatile read otherwise.
+   */
+  private void logChange(long newVersion, Match previous, Match current) {
+    AtomicReferenceArray<ChangeRecord> log = changeLog;
+    if (log != null) {
+      log.set(
+          (int) (newVersion % CHANGE_LOG_CAPACITY),
+          new ChangeRecord(newVersion, previous, current));
+    }
+  }
+
+  private record ChangeRecord(long version, Match previous, Match current) {}
+
+  private boolean hasListeners() {
+    return journal != ScoreboardJournal.NONE || eventPublisher.hasSubscribers();
+  }
+
+  /**
+   * Journals the event synchronously, then hands it to the subscribers without blocking; full
+   * subscriber buffers drop the event. Runs before the summary index is touched so that a failing
+   * journal leaves the board unchanged. The version the event took is then handed back, which
+   * always succeeds unless a concurrent mutation of another match already took the next one; no
+   * snapshot can observe it in between, since the caller holds the consistency lock.
+   */
+  private void emit(ScoreboardEvent event) {
+    try {
+      journal.record(event);
+    } catch (RuntimeException e) {
+      version.compareAndSet(event.version(), event.version() - 1);
+      throw e;
+    }
+    if (eventPublisher.hasSubscribers()) {
+      eventPublisher.offer(
+          event,
+          (subscriber, dropped) -> {
+            droppedEvents.increment();
+            return false;
+          });
     }
-    return storedMatch;
   }
 }
@@ -0,0 +1,37 @@
+package app.sportradar.domain;
+
+/**
+ * Change published by a {@link Scoreboard} to its subscribers. Every event carries the scoreboard
+ * version produced by the mutation, so subscribers can line events up with {@link
+ * Scoreboard#snapshot()} results.
+ */
+public sealed interface ScoreboardEvent {
+
+  long version();
+
+  MatchKey matchKey();
+
+  /** A match was put on the board (or restarted, replacing the previous entry). */
+  record MatchStarted(long version, Match match) implements ScoreboardEvent {
+    @Override
+    public MatchKey matchKey() {
+      return match.getKey();
+    }
+  }
+
+  /** The score of a live match changed. */
+  record ScoreChanged(long version, Match previous, Match current) implements ScoreboardEvent {
+    @Override
+    public MatchKey matchKey() {
+      return current.getKey();
+    }
+  }
+
+  /** A match was removed from the board; {@code match} is its last state. */
+  record MatchFinished(long version, Match match) implements ScoreboardEvent {
+    @Override
+    public MatchKey matchKey() {
+      return match.getKey();
+    }
+  }
+}
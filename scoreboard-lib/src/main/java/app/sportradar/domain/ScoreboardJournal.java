@@ -0,0 +1,17 @@
+package app.sportradar.domain;
+
+/**
+ * Synchronous hook that receives every change of a {@link Scoreboard}, used by durable adapters to
+ * log mutations. Unlike {@link Scoreboard#subscribe} it is called on the mutating thread, inside
+ * the atomic update of the match, so records of one match are journaled in the order they are
+ * applied. Implementations must be fast and thread-safe, and should not take a lock shared by all
+ * matches, since every mutation waits for its record. A runtime exception aborts the mutation and
+ * hands its version back.
+ */
+@FunctionalInterface
+public interface ScoreboardJournal {
+  /** Journal that records nothing, used by scoreboards without persistence. */
+  ScoreboardJournal NONE = event -> {};
+
+  void record(ScoreboardEvent event);
+}
@@ -0,0 +1,40 @@
+package app.sportradar.domain;
+
+import java.util.function.IntSupplier;
+
+/**
+ * Instrumentation hook of a {@link Scoreboard}, for adapters that export latency, throughput and
+ * miss rates to a monitoring system. Callbacks run synchronously on the calling thread, so
+ * implementations must be thread-safe and cheap; every method defaults to doing nothing.
+ *
+ * <p>A scoreboard created with {@link #NONE} skips the instrumentation entirely, including the
+ * clock reads, so an unmonitored board pays nothing beyond a branch on a final field.
+ */
+public interface ScoreboardMetrics {
+  /** Metrics that record nothing, used by scoreboards without monitoring. */
+  ScoreboardMetrics NONE = new ScoreboardMetrics() {};
+
+  /** Timed scoreboard operations. */
+  enum Operation {
+    START_MATCH,
+    START_MATCHES,
+    FINISH_MATCH,
+    UPDATE_SCORE,
+    APPLY_BATCH,
+    FIND_MATCH,
+    GET_SUMMARY,
+    SNAPSHOT
+  }
+
+  /** Called once per completed operation, including failed ones, with its duration. */
+  default void recordLatency(Operation operation, long nanos) {}
+
+  /** Called when an operation addressed a match that is not on the scoreboard. */
+  default void recordMiss(Operation operation) {}
+
+  /** Called with the number of entries returned by a summary read. */
+  default void recordSummarySize(int entries) {}
+
+  /** Called once by the scoreboard with a gauge of its live match count. */
+  default void bindLiveMatches(IntSupplier liveMatches) {}
+}
@@ -0,0 +1,259 @@
+package app.sportradar.domain;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Scoreboards of many competitions or tenants, keyed by competition id. Each competition gets its
+ * own {@link ScoreboardRepository}, created by the factory on first access, so competitions share
+ * no scoreboard locks, versions or indexes and their score updates never contend with each other;
+ * looking a board up is one {@link ConcurrentHashMap} read.
+ *
+ * <p>Team names are not isolated: every competition registers its teams in the one {@linkplain
+ * TeamDictionary#shared() shared dictionary}. Starting a match of a team no competition has started
+ * before briefly takes the dictionary's lock, all competitions share its id space, and evicting a
+ * competition frees none of its team names.
+ *
+ * <p>A competition not accessed for the idle timeout and holding no live matches is evicted, and
+ * its repository is closed if it is {@link AutoCloseable}. The next access creates a fresh one.
+ * Callers should look boards up per operation rather than keep them: a board kept past its eviction
+ * is no longer part of the registry. Eviction runs as a background sweep once the registry is
+ * started, or whenever {@link #evictIdle()} is called:
+ *
+ * <pre>{@code
+ * ScoreboardRegistry registry =
+ *     new ScoreboardRegistry(id -> new InMemoryScoreboardRepository(), Duration.ofHours(1));
+ * registry.start();
+ * }</pre>
+ */
+@Slf4j
+public class ScoreboardRegistry implements Closeable {
+  private final Function<String, ScoreboardRepository> repositoryFactory;
+  private final long idleNanos;
+  private final LongSupplier clock;
+  private final Map<String, Competition> competitions = new ConcurrentHashMap<>();
+  private ScheduledExecutorService evictor;
+  private volatile boolean closed;
+
+  /**
+   * @param repositoryFactory creates the repository of a competition from its id
+   * @param idleTimeout how long an empty competition is kept without being accessed
+   */
+  public ScoreboardRegistry(
+      Function<String, ScoreboardRepository> repositoryFactory, Duration idleTimeout) {
+    this(repositoryFactory, idleTimeout, System::nanoTime);
+  }
+
+  ScoreboardRegistry(
+      Function<String, ScoreboardRepository> repositoryFactory,
+      Duration idleTimeout,
+      LongSupplier clock) {
+    if (repositoryFactory == null) {
+      throw new IllegalArgumentException("Repository factory must not be null.");
+    }
+    if (idleTimeout == null || idleTimeout.isNegative() || idleTimeout.isZero()) {
+      throw new IllegalArgumentException("Idle timeout must be positive.");
+    }
+    this.repositoryFactory = repositoryFactory;
+    this.idleNanos = idleTimeout.toNanos();
+    this.clock = clock;
+  }
+
+  /** Starts the background sweep that evicts idle competitions every idle timeout. */
+  public synchronized void start() {
+    ensureOpen();
+    if (evictor != null) {
+      throw new IllegalStateException("Registry is already started.");
+    }
+    evictor = startEvictor(Duration.ofNanos(idleNanos));
+  }
+
+  /**
+   * Returns the scoreboard of the competition, creating it on first access.
+   *
+   * @throws IllegalStateException if the registry is closed
+   */
+  public Scoreboard getScoreboard(String competitionId) {
+    if (competitionId == null || competitionId.isBlank()) {
+      throw new IllegalArgumentException("Competition id must not be blank.");
+    }
+    ensureOpen();
+    while (true) {
+      Competition competition = competitions.get(competitionId);
+      if (competition == null) {
+        competition = competitions.computeIfAbsent(competitionId, this::open);
+        if (closed) {
+          // close() may have swept the competitions before this one was added
+          if (competitions.remove(competitionId, competition)) {
+            closeRepository(competitionId, competition);
+          }
+          ensureOpen();
+        }
+      }
+      // pairs with evictIdle: either the sweep sees this access or we see its eviction
+      competition.lastAccess = clock.getAsLong();
+      if (!competition.evicting) {
+        return competition.repository.getScoreboard();
+      }
+      Thread.onSpinWait();
+    }
+  }
+
+  /** Ids of the competitions currently held. */
+  public Set<String> getCompetitionIds() {
+    return Set.copyOf(competitions.keySet());
+  }
+
+  /**
+   * Live matches of all competitions in summary order. Merged from the cached {@linkplain
+   * Scoreboard#snapshot() snapshot} of every board; reading it does not count as an access.
+   */
+  public List<CompetitionMatch> getSummary() {
+    return merge(Integer.MAX_VALUE);
+  }
+
+  /**
+   * Leading {@code limit} matches of all competitions. Reads at most {@code limit} entries per
+   * board through {@link Scoreboard#getSummary(int)}, so boards changed since their last read are
+   * not copied in full.
+   */
+  public List<CompetitionMatch> getSummary(int limit) {
+    if (limit <= 0) {
+      throw new IllegalArgumentException("Limit must be positive.");
+    }
+    return merge(limit);
+  }
+
+  /**
+   * Evicts the competitions that were not accessed for the idle timeout and hold no live matches.
+   * Runs periodically in the background once {@linkplain #start() started}; exposed for callers
+   * that want to sweep right away.
+   *
+   * @return the number of evicted competitions
+   */
+  public int evictIdle() {
+    int evicted = 0;
+    for (Map.Entry<String, Competition> entry : competitions.entrySet()) {
+      Competition competition = entry.getValue();
+      long lastAccess = competition.lastAccess;
+      if (clock.getAsLong() - lastAccess < idleNanos || !competition.isEmpty()) {
+        continue;
+      }
+      competition.evicting = true;
+      if (competition.lastAccess != lastAccess || !competition.isEmpty()) {
+        competition.evicting = false;
+        continue;
+      }
+      // a concurrent sweep or close() may have removed it first, and closes it itself
+      if (competitions.remove(entry.getKey(), competition)) {
+        closeRepository(entry.getKey(), competition);
+        evicted++;
+      }
+    }
+    return evicted;
+  }
+
+  /** Stops the eviction sweep and closes the repositories of all competitions. */
+  @Override
+  public synchronized void close() {
+    closed = true;
+    if (evictor != null) {
+      evictor.shutdownNow();
+    }
+    for (String competitionId : getCompetitionIds()) {
+      Competition competition = competitions.remove(competitionId);
+      if (competition != null) {
+        closeRepository(competitionId, competition);
+      }
+    }
+  }
+
+  private void ensureOpen() {
+    if (closed) {
+      throw new IllegalStateException("Registry is closed.");
+    }
+  }
+
+  private List<CompetitionMatch> merge(int limit) {
+    List<String> ids = new ArrayList<>();
+    List<List<Match>> summaries = new ArrayList<>();
+    competitions.forEach(
+        (competitionId, competition) -> {
+          ids.add(competitionId);
+          Scoreboard scoreboard = competition.repository.getScoreboard();
+          summaries.add(
+              limit == Integer.MAX_VALUE
+                  ? scoreboard.snapshot().summary()
+                  : scoreboard.getSummary(limit));
+        });
+    return SummaryMerge.merge(
+        summaries, limit, (source, match) -> new CompetitionMatch(ids.get(source), match));
+  }
+
+  private Competition open(String competitionId) {
+    ScoreboardRepository repository = repositoryFactory.apply(competitionId);
+    if (repository == null) {
+      throw new IllegalArgumentException("Repository factory must not return null.");
+    }
+    return new Competition(repository, clock.getAsLong());
+  }
+
+  private static void closeRepository(String competitionId, Competition competition) {
+    if (competition.repository instanceof AutoCloseable closeable) {
+      try {
+        closeable.close();
+      } catch (Exception e) {
+        log.warn("Could not close the repository of competition {}.", competitionId, e);
+      }
+    }
+  }
+
+  private ScheduledExecutorService startEvictor(Duration interval) {
+    ScheduledExecutorService executor =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "scoreboard-registry-evictor");
+              thread.setDaemon(true);
+              return thread;
+            });
+    long millis = Math.max(1, interval.toMillis());
+    executor.scheduleWithFixedDelay(
+        () -> {
+          try {
+            evictIdle();
+          } catch (RuntimeException e) {
+            log.error("Eviction sweep failed.", e);
+          }
+        },
+        millis,
+        millis,
+        TimeUnit.MILLISECONDS);
+    return executor;
+  }
+
+  private static final class Competition {
+    private final ScoreboardRepository repository;
+    private volatile long lastAccess;
+    private volatile boolean evicting;
+
+    private Competition(ScoreboardRepository repository, long lastAccess) {
+      this.repository = repository;
+      this.lastAccess = lastAccess;
+    }
+
+    private boolean isEmpty() {
+      return repository.getScoreboard().getMatchMap().isEmpty();
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package app.sportradar.domain;
+
+import java.util.List;
+
+/**
+ * Immutable, consistent view of a {@link Scoreboard} at a given version. The version increases
+ * monotonically with every mutation of the scoreboard, so two snapshots with the same version hold
+ * the same state and readers can share a snapshot as long as the version does not move.
+ *
+ * @param version mutation count of the scoreboard when the snapshot was taken
+ * @param summary live matches in summary order
+ */
+public record ScoreboardSnapshot(long version, List<Match> summary) {
+
+  public ScoreboardSnapshot {
+    if (summary == null) {
+      throw new IllegalArgumentException("Summary must not be null.");
+    }
+    summary = List.copyOf(summary);
+  }
+
+  static ScoreboardSnapshot empty() {
+    return new ScoreboardSnapshot(0L, List.of());
+  }
+
+  public int size() {
+    return summary.size();
+  }
+
+  public boolean isEmpty() {
+    return summary.isEmpty();
+  }
+}
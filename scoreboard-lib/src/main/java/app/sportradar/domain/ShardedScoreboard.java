@@ -0,0 +1,416 @@
+package app.sportradar.domain;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Scoreboard partitioned by match key into independent {@link Scoreboard} shards, for write
+ * throughput that scales with cores. A single board funnels every mutation through shared state:
+ * its lock word, its version counter and its summary index. Here each shard has its own, so writes
+ * to different shards never touch the same memory.
+ *
+ * <p>Reads merge the shards' ordered summaries with a k-way merge, O(n log shards) for the full
+ * summary and O(limit log shards) for {@link #getSummary(int)}. Each shard contributes a consistent
+ * view, but the shards are read one after another, so a merged summary is not a single cut across
+ * the whole board: a concurrent move of a match is never seen half-applied, while two mutations on
+ * different shards may be observed in either order.
+ *
+ * <p>The same holds for {@link #applyBatch}, {@link #snapshot()} and {@link #diff}: a batch is
+ * split by shard and every shard applies its part atomically, a snapshot merges the shards'
+ * snapshots and its version is the sum of theirs, and a diff combines the shards' diffs. Events
+ * delivered through {@link #subscribe} carry the version of their shard, so versions only order the
+ * events of one match.
+ */
+public class ShardedScoreboard {
+  /** Number of recent merged snapshots whose shard snapshots are kept for {@link #diff}. */
+  static final int RECENT_SNAPSHOTS = 64;
+
+  private final Scoreboard[] shards;
+
+  /** Merged snapshots with the shard snapshots they were built from, newest at {@link #latest}. */
+  private final MergedSnapshot[] recentSnapshots = new MergedSnapshot[RECENT_SNAPSHOTS];
+
+  private int latest;
+
+  /** Fan-in of the shards' events; connected to the shards by the first {@link #subscribe}. */
+  private final SubmissionPublisher<ScoreboardEvent> eventPublisher = new SubmissionPublisher<>();
+
+  private final LongAdder droppedEvents = new LongAdder();
+  private boolean forwarding;
+
+  /** Creates a board with one shard per available processor. */
+  public ShardedScoreboard() {
+    this(Runtime.getRuntime().availableProcessors());
+  }
+
+  public ShardedScoreboard(int shardCount) {
+    if (shardCount <= 0) {
+      throw new IllegalArgumentException("Shard count must be positive.");
+    }
+    shards = new Scoreboard[shardCount];
+    for (int i = 0; i < shardCount; i++) {
+      shards[i] = new Scoreboard();
+    }
+    recentSnapshots[0] = new MergedSnapshot(ScoreboardSnapshot.empty(), snapshotsOfShards());
+  }
+
+  public int getShardCount() {
+    return shards.length;
+  }
+
+  /** Returns the merged summary, memoized with the {@link #snapshot()}. */
+  public List<Match> getSummary() {
+    return snapshot().summary();
+  }
+
+  /** Returns the leading {@code limit} entries, reading at most {@code limit} from each shard. */
+  public List<Match> getSummary(int limit) {
+    if (limit <= 0) {
+      throw new IllegalArgumentException("Limit must be positive.");
+    }
+    return merge(shard -> shard.getSummary(limit), limit);
+  }
+
+  /**
+   * Returns the merged snapshots of the shards. While no shard changes this reuses the last merge,
+   * otherwise it costs one O(n log shards) merge.
+   */
+  public ScoreboardSnapshot snapshot() {
+    ScoreboardSnapshot[] parts = snapshotsOfShards();
+    MergedSnapshot current = latestSnapshot();
+    if (current.isBuiltFrom(parts)) {
+      return current.merged;
+    }
+    List<List<Match>> summaries = new ArrayList<>(parts.length);
+    long version = 0;
+    for (ScoreboardSnapshot part : parts) {
+      summaries.add(part.summary());
+      version += part.version();
+    }
+    ScoreboardSnapshot merged =
+        new ScoreboardSnapshot(
+            version, SummaryMerge.merge(summaries, Integer.MAX_VALUE, (shard, match) -> match));
+    publish(new MergedSnapshot(merged, parts));
+    return merged;
+  }
+
+  /** Switches on {@link #diff} for every shard, see {@link Scoreboard#enableDiff()}. */
+  public void enableDiff() {
+    for (Scoreboard shard : shards) {
+      shard.enableDiff();
+    }
+  }
+
+  /**
+   * Returns the changes between two snapshots taken from this board, combined from the shards'
+   * {@link Scoreboard#diff} results; diffs must be {@linkplain #enableDiff() enabled} before the
+   * snapshots are taken. Returns {@code null} when the changes are not known: either snapshot is
+   * not among the last {@value #RECENT_SNAPSHOTS} taken, or a shard's range exceeds its change log.
+   * The caller then falls back to the full summary of {@code to}.
+   *
+   * @throws IllegalStateException if diffs were not enabled on this board
+   * @throws IllegalArgumentException if {@code from} is newer than {@code to} or was taken before
+   *     diffs were enabled
+   */
+  public SummaryDelta diff(ScoreboardSnapshot from, ScoreboardSnapshot to) {
+    if (from == null || to == null) {
+      throw new IllegalArgumentException("Snapshots must not be null.");
+    }
+    if (from.version() > to.version()) {
+      throw new IllegalArgumentException("From snapshot must not be newer than to snapshot.");
+    }
+    ScoreboardSnapshot[] fromParts = partsOf(from);
+    ScoreboardSnapshot[] toParts = partsOf(to);
+    if (fromParts == null || toParts == null) {
+      return null;
+    }
+    List<Match[]> changed = new ArrayList<>();
+    for (int i = 0; i < shards.length; i++) {
+      SummaryDelta delta = shards[i].diff(fromParts[i], toParts[i]);
+      if (delta == null) {
+        return null;
+      }
+      for (SummaryChange change : delta.changes()) {
+        changed.add(new Match[] {change.previous(), change.current()});
+      }
+    }
+    return Scoreboard.delta(from, to, changed);
+  }
+
+  /**
+   * Registers a subscriber for the change events of every shard. Events of one match arrive in the
+   * order the mutations were applied; a subscriber that falls behind loses events, see {@link
+   * #getDroppedEventCount()}.
+   */
+  public void subscribe(Flow.Subscriber<? super ScoreboardEvent> subscriber) {
+    eventPublisher.subscribe(subscriber);
+    synchronized (eventPublisher) {
+      if (!forwarding) {
+        forwarding = true;
+        for (Scoreboard shard : shards) {
+          shard.subscribe(new EventForwarder());
+        }
+      }
+    }
+  }
+
+  /** Number of events dropped so far because a subscriber's buffer was full. */
+  public long getDroppedEventCount() {
+    long dropped = droppedEvents.sum();
+    for (Scoreboard shard : shards) {
+      dropped += shard.getDroppedEventCount();
+    }
+    return dropped;
+  }
+
+  /**
+   * Applies the events shard by shard and reports the outcome of each one, in the order given.
+   * Events of one match keep their order. Each shard applies its part with {@link
+   * Scoreboard#applyBatch}, so readers never see a shard's part half-applied, but may see one
+   * shard's part before another's.
+   */
+  public List<ScoreEventResult> applyBatch(Collection<ScoreEvent> events) {
+    if (events == null) {
+      throw new IllegalArgumentException("Events must not be null.");
+    }
+    List<List<ScoreEvent>> perShard = new ArrayList<>(shards.length);
+    for (int i = 0; i < shards.length; i++) {
+      perShard.add(new ArrayList<>());
+    }
+    int[] shardOfEvent = new int[events.size()];
+    int index = 0;
+    for (ScoreEvent event : events) {
+      if (event == null) {
+        throw new IllegalArgumentException("Events must not contain null.");
+      }
+      shardOfEvent[index] = shardIndex(event.matchKey());
+      perShard.get(shardOfEvent[index++]).add(event);
+    }
+    List<List<ScoreEventResult>> shardResults = new ArrayList<>(shards.length);
+    for (int i = 0; i < shards.length; i++) {
+      shardResults.add(
+          perShard.get(i).isEmpty() ? List.of() : shards[i].applyBatch(perShard.get(i)));
+    }
+    int[] next = new int[shards.length];
+    List<ScoreEventResult> results = new ArrayList<>(shardOfEvent.length);
+    for (int shard : shardOfEvent) {
+      results.add(shardResults.get(shard).get(next[shard]++));
+    }
+    return results;
+  }
+
+  public Match findMatch(String home, String away, LocalDateTime date) {
+    Object probe = MatchKey.probe(home, away, date);
+    // a match of unknown teams is on no shard, any of them records the miss
+    return shards[probe != null ? shardIndex(probe.hashCode()) : 0].findStored(probe);
+  }
+
+  public Match findMatch(Match match) {
+    return findMatch(match.getKey());
+  }
+
+  public Match findMatch(MatchKey key) {
+    return shardFor(key).findMatch(key);
+  }
+
+  public void startMatch(Match match) {
+    shardFor(match.getKey()).startMatch(match);
+  }
+
+  public void startMatch(String home, String away, LocalDateTime date) {
+    startMatch(Match.builder().homeTeam(home).awayTeam(away).startTime(date).build());
+  }
+
+  public void finishMatch(String home, String away, LocalDateTime date) {
+    finishMatch(MatchKey.of(home, away, date));
+  }
+
+  public void finishMatch(Match match) {
+    finishMatch(match.getKey());
+  }
+
+  public void finishMatch(MatchKey key) {
+    shardFor(key).finishMatch(key);
+  }
+
+  public Match incrementHomeTeamScore(Match match) {
+    return updateScore(match, Score::incrementHomeTeamScore);
+  }
+
+  public Match incrementHomeTeamScore(String home, String away, LocalDateTime date) {
+    return updateScore(MatchKey.of(home, away, date), Score::incrementHomeTeamScore);
+  }
+
+  public Match incrementHomeScoreByValue(Match match, int amount) {
+    return updateScore(match, score -> score.incrementHomeScoreByValue(amount));
+  }
+
+  public Match incrementHomeScoreByValue(String home, String away, LocalDateTime date, int amount) {
+    return updateScore(
+        MatchKey.of(home, away, date), score -> score.incrementHomeScoreByValue(amount));
+  }
+
+  public Match incrementAwayTeamScore(Match match) {
+    return updateScore(match, Score::incrementAwayTeamScore);
+  }
+
+  public Match incrementAwayTeamScore(String home, String away, LocalDateTime date) {
+    return updateScore(MatchKey.of(home, away, date), Score::incrementAwayTeamScore);
+  }
+
+  public Match incrementAwayScoreByValue(Match match, int amount) {
+    return updateScore(match, score -> score.incrementAwayScoreByValue(amount));
+  }
+
+  public Match incrementAwayScoreByValue(String home, String away, LocalDateTime date, int amount) {
+    return updateScore(
+        MatchKey.of(home, away, date), score -> score.incrementAwayScoreByValue(amount));
+  }
+
+  public Match decrementHomeScore(Match match) {
+    return updateScore(match, Score::decrementHomeScore);
+  }
+
+  public Match decrementHomeScore(String home, String away, LocalDateTime date) {
+    return updateScore(MatchKey.of(home, away, date), Score::decrementHomeScore);
+  }
+
+  public Match decrementAwayScore(Match match) {
+    return updateScore(match, Score::decrementAwayScore);
+  }
+
+  public Match decrementAwayScore(String home, String away, LocalDateTime date) {
+    return updateScore(MatchKey.of(home, away, date), Score::decrementAwayScore);
+  }
+
+  public Match decrementHomeScoreByValue(Match match, int amount) {
+    return updateScore(match, score -> score.decrementHomeScoreByValue(amount));
+  }
+
+  public Match decrementHomeScoreByValue(String home, String away, LocalDateTime date, int amount) {
+    return updateScore(
+        MatchKey.of(home, away, date), score -> score.decrementHomeScoreByValue(amount));
+  }
+
+  public Match decrementAwayScoreByValue(Match match, int amount) {
+    return updateScore(match, score -> score.decrementAwayScoreByValue(amount));
+  }
+
+  public Match decrementAwayScoreByValue(String home, String away, LocalDateTime date, int amount) {
+    return updateScore(
+        MatchKey.of(home, away, date), score -> score.decrementAwayScoreByValue(amount));
+  }
+
+  public Match updateScore(Match match, int homeScore, int awayScore) {
+    return updateScore(match, score -> Score.of(homeScore, awayScore));
+  }
+
+  public Match updateScore(
+      String home, String away, LocalDateTime date, int homeScore, int awayScore) {
+    return updateScore(MatchKey.of(home, away, date), score -> Score.of(homeScore, awayScore));
+  }
+
+  private Match updateScore(Match match, UnaryOperator<Score> scoreUpdater) {
+    if (match == null) {
+      throw new IllegalArgumentException("Match must not be null.");
+    }
+    return updateScore(match.getKey(), scoreUpdater);
+  }
+
+  private Match updateScore(MatchKey key, UnaryOperator<Score> scoreUpdater) {
+    return shardFor(key).updateScore(key, scoreUpdater);
+  }
+
+  private Scoreboard shardFor(MatchKey key) {
+    return shards[shardIndex(key)];
+  }
+
+  private int shardIndex(MatchKey key) {
+    return shardIndex(key.hashCode());
+  }
+
+  private int shardIndex(int hash) {
+    return Math.floorMod(hash ^ (hash >>> 16), shards.length);
+  }
+
+  private ScoreboardSnapshot[] snapshotsOfShards() {
+    ScoreboardSnapshot[] parts = new ScoreboardSnapshot[shards.length];
+    for (int i = 0; i < shards.length; i++) {
+      parts[i] = shards[i].snapshot();
+    }
+    return parts;
+  }
+
+  private synchronized MergedSnapshot latestSnapshot() {
+    return recentSnapshots[latest];
+  }
+
+  private synchronized void publish(MergedSnapshot snapshot) {
+    latest = (latest + 1) % RECENT_SNAPSHOTS;
+    recentSnapshots[latest] = snapshot;
+  }
+
+  /** Shard snapshots the given merged snapshot was built from, if it is still remembered. */
+  private synchronized ScoreboardSnapshot[] partsOf(ScoreboardSnapshot merged) {
+    for (MergedSnapshot recent : recentSnapshots) {
+      if (recent != null && recent.merged == merged) {
+        return recent.parts;
+      }
+    }
+    return null;
+  }
+
+  private record MergedSnapshot(ScoreboardSnapshot merged, ScoreboardSnapshot[] parts) {
+    /** Whether every shard still has the snapshot this merge was built from; identity only. */
+    boolean isBuiltFrom(ScoreboardSnapshot[] current) {
+      for (int i = 0; i < parts.length; i++) {
+        if (parts[i] != current[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  /** Forwards the events of one shard to the board's subscribers, dropping them when full. */
+  private final class EventForwarder implements Flow.Subscriber<ScoreboardEvent> {
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(ScoreboardEvent event) {
+      eventPublisher.offer(
+          event,
+          (subscriber, dropped) -> {
+            droppedEvents.increment();
+            return false;
+          });
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      eventPublisher.closeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {}
+  }
+
+  /** Merges the ordered per-shard summaries, see {@link SummaryMerge}. */
+  private List<Match> merge(Function<Scoreboard, List<Match>> shardSummary, int limit) {
+    List<List<Match>> summaries = new ArrayList<>(shards.length);
+    for (Scoreboard shard : shards) {
+      summaries.add(shardSummary.apply(shard));
+    }
+    return SummaryMerge.merge(summaries, limit, (shard, match) -> match);
+  }
+}
@@ -0,0 +1,39 @@
+package app.sportradar.domain;
+
+/**
+ * One entry of a {@link SummaryDelta}: a match that changed between two versions of the summary.
+ * Positions are zero-based indexes into the summary list of the respective version, {@code -1}
+ * where the match is not part of it.
+ *
+ * @param type what happened to the match
+ * @param previous the match in the older summary, or {@code null} when it was inserted
+ * @param current the match in the newer summary, or {@code null} when it was removed
+ * @param fromPosition index of {@code previous} in the older summary
+ * @param toPosition index of {@code current} in the newer summary
+ */
+public record SummaryChange(
+    Type type, Match previous, Match current, int fromPosition, int toPosition) {
+
+  public enum Type {
+    /** The match started. */
+    INSERTED,
+    /** The match finished. */
+    REMOVED,
+    /** The score changed and the match kept its rank. */
+    RESCORED,
+    /** The score changed and the match moved to another rank. */
+    MOVED
+  }
+
+  static SummaryChange of(Match previous, int fromPosition, Match current, int toPosition) {
+    Type type;
+    if (previous == null) {
+      type = Type.INSERTED;
+    } else if (current == null) {
+      type = Type.REMOVED;
+    } else {
+      type = fromPosition == toPosition ? Type.RESCORED : Type.MOVED;
+    }
+    return new SummaryChange(type, previous, current, fromPosition, toPosition);
+  }
+}
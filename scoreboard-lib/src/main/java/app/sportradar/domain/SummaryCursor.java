@@ -0,0 +1,19 @@
+package app.sportradar.domain;
+
+/**
+ * Opaque position inside the summary order, returned with a {@link SummaryPage} to fetch the page
+ * that follows it. The cursor remembers the last entry of its page, so the next page continues
+ * right after that position even if the board changed in between, without re-scanning the leading
+ * entries.
+ */
+public final class SummaryCursor {
+  private final Match lastEntry;
+
+  SummaryCursor(Match lastEntry) {
+    this.lastEntry = lastEntry;
+  }
+
+  Match lastEntry() {
+    return lastEntry;
+  }
+}
@@ -0,0 +1,51 @@
+package app.sportradar.domain;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Difference between two summary versions of a {@link Scoreboard}, as computed by {@link
+ * Scoreboard#diff}. It lists only the matches that changed; matches that merely shifted because
+ * others were inserted or removed above them are not listed, since their relative order never
+ * changes. {@link #applyTo(List)} turns the older summary into the newer one.
+ *
+ * @param fromVersion version of the older summary
+ * @param toVersion version of the newer summary
+ * @param changes changed matches, ordered by their position in the newer summary, removals last
+ */
+public record SummaryDelta(long fromVersion, long toVersion, List<SummaryChange> changes) {
+
+  public SummaryDelta {
+    if (changes == null) {
+      throw new IllegalArgumentException("Changes must not be null.");
+    }
+    changes = List.copyOf(changes);
+  }
+
+  public boolean isEmpty() {
+    return changes.isEmpty();
+  }
+
+  /**
+   * Returns the newer summary, given the summary of {@link #fromVersion()}. Removes every changed
+   * match from its old position, bottom up, then inserts the matches of the newer summary at their
+   * new positions, top down. Meant for clients mirroring the summary; the delta itself stays
+   * O(changes) to build and send.
+   */
+  public List<Match> applyTo(List<Match> summary) {
+    if (summary == null) {
+      throw new IllegalArgumentException("Summary must not be null.");
+    }
+    List<Match> patched = new ArrayList<>(summary);
+    changes.stream()
+        .filter(change -> change.previous() != null)
+        .sorted(Comparator.comparingInt(SummaryChange::fromPosition).reversed())
+        .forEach(change -> patched.remove(change.fromPosition()));
+    changes.stream()
+        .filter(change -> change.current() != null)
+        .sorted(Comparator.comparingInt(SummaryChange::toPosition))
+        .forEach(change -> patched.add(change.toPosition(), change.current()));
+    return List.copyOf(patched);
+  }
+}
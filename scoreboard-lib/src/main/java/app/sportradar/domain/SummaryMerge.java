@@ -0,0 +1,64 @@
+package app.sportradar.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.BiFunction;
+
+/**
+ * K-way merge of summaries that are each in {@link Scoreboard#SUMMARY_ORDER}, keeping the head of
+ * every summary in a heap: O(n log k) for n merged entries from k summaries.
+ */
+final class SummaryMerge {
+  private SummaryMerge() {}
+
+  /**
+   * Merges the leading {@code limit} entries of {@code summaries}, converting each one with {@code
+   * entry}, which also receives the index of the summary the match came from.
+   */
+  static <T> List<T> merge(
+      List<List<Match>> summaries, int limit, BiFunction<Integer, Match, T> entry) {
+    PriorityQueue<Cursor> heads = new PriorityQueue<>(Math.max(1, summaries.size()));
+    int total = 0;
+    for (int i = 0; i < summaries.size(); i++) {
+      List<Match> summary = summaries.get(i);
+      total += summary.size();
+      if (!summary.isEmpty()) {
+        heads.add(new Cursor(i, summary));
+      }
+    }
+    List<T> merged = new ArrayList<>(Math.min(total, limit));
+    while (merged.size() < limit && !heads.isEmpty()) {
+      Cursor head = heads.poll();
+      merged.add(entry.apply(head.source, head.current()));
+      if (head.advance()) {
+        heads.add(head);
+      }
+    }
+    return List.copyOf(merged);
+  }
+
+  private static final class Cursor implements Comparable<Cursor> {
+    private final int source;
+    private final List<Match> summary;
+    private int position;
+
+    private Cursor(int source, List<Match> summary) {
+      this.source = source;
+      this.summary = summary;
+    }
+
+    private Match current() {
+      return summary.get(position);
+    }
+
+    private boolean advance() {
+      return ++position < summary.size();
+    }
+
+    @Override
+    public int compareTo(Cursor other) {
+      return Scoreboard.SUMMARY_ORDER.compare(current(), other.current());
+    }
+  }
+}
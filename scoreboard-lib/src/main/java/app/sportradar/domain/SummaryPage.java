@@ -0,0 +1,23 @@
+package app.sportradar.domain;
+
+import java.util.List;
+
+/**
+ * One page of the summary in summary order.
+ *
+ * @param matches the entries of this page
+ * @param next cursor for the following page, or {@code null} when this is the last page
+ */
+public record SummaryPage(List<Match> matches, SummaryCursor next) {
+
+  public SummaryPage {
+    if (matches == null) {
+      throw new IllegalArgumentException("Matches must not be null.");
+    }
+    matches = List.copyOf(matches);
+  }
+
+  public boolean hasNext() {
+    return next != null;
+  }
+}
@@ -0,0 +1,54 @@
+package app.sportradar.domain;
+
+/**
+ * Forward-only cursor over a summary, exposing each entry through primitive accessors instead of a
+ * {@link Match} object, so that serializers can stream a board without allocating per entry. The
+ * entries are those of one consistent summary, taken when the view was created.
+ *
+ * <pre>{@code
+ * SummaryView view = scoreboard.getSummaryView();
+ * while (view.next()) {
+ *   out.print(view.rank() + ". " + view.homeTeam() + " " + view.homeScore() + " - ...");
+ * }
+ * }</pre>
+ *
+ * <p>The accessors describe the current entry and throw {@link IllegalStateException} before the
+ * first {@link #next()} and after the last one. Views are not thread-safe.
+ */
+public interface SummaryView {
+  /** Number of entries in the view. */
+  int size();
+
+  /** Moves to the next entry, returning {@code false} when there is none. */
+  boolean next();
+
+  /** Rank of the current entry, starting at 1. */
+  int rank();
+
+  String homeTeam();
+
+  String awayTeam();
+
+  /** {@link TeamDictionary} id of the home team. */
+  int homeTeamId();
+
+  /** {@link TeamDictionary} id of the away team. */
+  int awayTeamId();
+
+  int homeScore();
+
+  int awayScore();
+
+  default int totalScore() {
+    return homeScore() + awayScore();
+  }
+
+  /** Start time of the current entry as seconds since the epoch, read as UTC. */
+  long startEpochSecond();
+
+  /** Nanosecond part of the start time. */
+  int startNano();
+
+  /** Materializes the current entry as a {@link Match}. */
+  Match match();
+}
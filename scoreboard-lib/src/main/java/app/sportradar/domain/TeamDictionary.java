@@ -0,0 +1,147 @@
+package app.sportradar.domain;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maps team names to dense {@code int} ids, so that match identities compare and hash primitives
+ * instead of strings.
+ *
+ * <p>Names are trimmed and, by default, otherwise kept as spelled: {@code "Mexico"} and {@code "
+ * Mexico "} share one id, while {@code "MEXICO"} is a different team, the same case-sensitive
+ * identity {@link Match} has always had. A dictionary in {@link NameMatching#CASE_INSENSITIVE} mode
+ * also folds case, so all three share one id; the {@linkplain #shared() shared dictionary} uses it
+ * when the system property {@value #CASE_INSENSITIVE_PROPERTY} is {@code true} at startup. {@link
+ * Match} rejects a team playing itself regardless of case in either mode.
+ *
+ * <p>Only {@link #idOf(String)} registers names, and the scoreboards call it only once a valid
+ * match is being started. Building a {@link Match} or a lookup key, decoding a feed line and any
+ * read or update addressed to unknown teams never register anything, so invalid fixtures, rejected
+ * feed starts and failed imports cannot fill the dictionary up. Resolving a known name costs one
+ * {@link ConcurrentHashMap} lookup and allocates nothing in the default mode. Ids are never reused,
+ * so the dictionary holds every team that was ever started; that is bounded by the number of teams,
+ * not by the number of matches.
+ */
+public final class TeamDictionary {
+  /** Returned by {@link #lookupId(String)} for a name that was never registered. */
+  public static final int UNKNOWN = -1;
+
+  /** System property that switches the shared dictionary to case-insensitive names. */
+  public static final String CASE_INSENSITIVE_PROPERTY = "sportradar.teams.caseInsensitive";
+
+  /** How names are compared. */
+  public enum NameMatching {
+    /** Names are trimmed, case matters. */
+    EXACT,
+    /** Names are trimmed and compared ignoring case, using the root locale. */
+    CASE_INSENSITIVE
+  }
+
+  private static final TeamDictionary SHARED =
+      new TeamDictionary(
+          Boolean.getBoolean(CASE_INSENSITIVE_PROPERTY)
+              ? NameMatching.CASE_INSENSITIVE
+              : NameMatching.EXACT);
+
+  private final NameMatching matching;
+
+  /** Normalized name to id. */
+  private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+
+  /** Names indexed by id, as first registered; written under the lock, replaced when it grows. */
+  private volatile String[] names = new String[64];
+
+  /** Normalized names indexed by id, the same instances as the keys of {@link #ids}. */
+  private volatile String[] normalizedNames = new String[64];
+
+  private int size;
+
+  TeamDictionary() {
+    this(NameMatching.EXACT);
+  }
+
+  TeamDictionary(NameMatching matching) {
+    this.matching = matching;
+  }
+
+  /** The dictionary used by {@link Match}, {@link MatchKey} and the storage engines. */
+  public static TeamDictionary shared() {
+    return SHARED;
+  }
+
+  /**
+   * Returns the id of {@code name}, registering the team if it is new.
+   *
+   * @throws IllegalArgumentException if {@code name} is null or blank
+   */
+  public int idOf(String name) {
+    String normalized = normalize(name);
+    Integer id = ids.get(normalized);
+    return id != null ? id : register(name.trim(), normalized);
+  }
+
+  /**
+   * Returns the id of {@code name}, or {@link #UNKNOWN} if no match of that team was ever started.
+   *
+   * @throws IllegalArgumentException if {@code name} is null or blank
+   */
+  public int lookupId(String name) {
+    Integer id = ids.get(normalize(name));
+    return id != null ? id : UNKNOWN;
+  }
+
+  /** Name of the team with the given id, as first registered. */
+  public String name(int id) {
+    return entry(names, id);
+  }
+
+  /** Number of distinct teams registered. */
+  public synchronized int size() {
+    return size;
+  }
+
+  /** Form of {@code name} that identifies its team: trimmed, and lower case if case-insensitive. */
+  String normalize(String name) {
+    if (name == null || name.isBlank()) {
+      throw new IllegalArgumentException("Team name must not be blank.");
+    }
+    String trimmed = name.trim();
+    return matching == NameMatching.CASE_INSENSITIVE ? trimmed.toLowerCase(Locale.ROOT) : trimmed;
+  }
+
+  /** {@linkplain #normalize(String) Normalized} name of the team with the given id. */
+  String normalizedName(int id) {
+    return entry(normalizedNames, id);
+  }
+
+  private static String entry(String[] table, int id) {
+    if (id < 0 || id >= table.length || table[id] == null) {
+      throw new IllegalArgumentException("Unknown team id " + id + ".");
+    }
+    return table[id];
+  }
+
+  private synchronized int register(String name, String normalized) {
+    Integer id = ids.get(normalized);
+    if (id != null) {
+      return id;
+    }
+    id = size;
+    String[] currentNames = names;
+    String[] currentNormalized = normalizedNames;
+    if (id == currentNames.length) {
+      currentNames = Arrays.copyOf(currentNames, currentNames.length * 2);
+      currentNormalized = Arrays.copyOf(currentNormalized, currentNormalized.length * 2);
+    }
+    currentNames[id] = name;
+    currentNormalized[id] = normalized;
+    // the volatile writes publish the names before the id can be observed through the map
+    names = currentNames;
+    normalizedNames = currentNormalized;
+    size++;
+    ids.put(normalized, id);
+    return id;
+  }
+}
@@ -0,0 +1,156 @@
+package app.sportradar.adapter.in;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import app.sportradar.domain.Match;
+import app.sportradar.domain.Scoreboard;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class IngestionPipelineTest {
+  private static final String START = "2026-06-15T20:00";
+  private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+  @TempDir Path directory;
+
+  @Test
+  @DisplayName("replays a feed file into the scoreboard")
+  void replaysFeedFile() throws Exception {
+    Path feed = directory.resolve("feed.txt");
+    Files.write(
+        feed,
+        List.of(
+            "START|Mexico|Canada|" + START,
+            "START|Spain|Brazil|" + START,
+            "HOME_GOAL|Mexico|Canada|" + START,
+            "SCORE|Spain|Brazil|" + START + "|2|2",
+            "AWAY_GOAL|Mexico|Canada|" + START,
+            "FINISH|Spain|Brazil|" + START));
+    Scoreboard scoreboard = new Scoreboard();
+
+    try (IngestionPipeline pipeline = new IngestionPipeline(scoreboard)) {
+      assertEquals(6L, pipeline.ingest(feed).get());
+      assertTrue(pipeline.awaitIdle(TIMEOUT));
+
+      IngestionMetrics metrics = pipeline.metrics();
+      assertEquals(6, metrics.received());
+      assertEquals(6, metrics.applied());
+      assertEquals(0, metrics.queueDepth());
+      assertEquals(Duration.ZERO, metrics.lag());
+    }
+
+    LocalDateTime start = LocalDateTime.parse(START);
+    Match mexico = scoreboard.findMatch("Mexico", "Canada", start);
+    assertEquals(1, mexico.getScore().homeScore());
+    assertEquals(1, mexico.getScore().awayScore());
+    assertNull(scoreboard.findMatch("Spain", "Brazil", start));
+  }
+
+  @Test
+  @DisplayName("keeps per-match order across many concurrent sources")
+  void keepsPerMatchOrderAcrossSources() throws Exception {
+    Scoreboard scoreboard = new Scoreboard();
+    int sources = 32;
+    int goals = 50;
+
+    try (IngestionPipeline pipeline =
+        new IngestionPipeline(scoreboard, new LineFeedDecoder(), 4, 8)) {
+      List<Future<Long>> reads = new ArrayList<>();
+      for (int s = 0; s < sources; s++) {
+        StringBuilder feed = new StringBuilder();
+        feed.append("START|Home-").append(s).append("|Away|").append(START).append('\n');
+        for (int g = 0; g < goals; g++) {
+          feed.append("HOME_GOAL|Home-").append(s).append("|Away|").append(START).append('\n');
+        }
+        feed.append("SCORE|Home-").append(s).append("|Away|").append(START).append("|0|7\n");
+        reads.add(pipeline.ingest(new StringReader(feed.toString())));
+      }
+      for (Future<Long> read : reads) {
+        assertEquals(goals + 2L, read.get());
+      }
+      assertTrue(pipeline.awaitIdle(TIMEOUT));
+      assertEquals(0, pipeline.metrics().rejected());
+    }
+
+    LocalDateTime start = LocalDateTime.parse(START);
+    for (int s = 0; s < sources; s++) {
+      Match match = scoreboard.findMatch("Home-" + s, "Away", start);
+      assertEquals(0, match.getScore().homeScore(), "absolute score must be applied last");
+      assertEquals(7, match.getScore().awayScore());
+    }
+  }
+
+  @Test
+  @DisplayName("counts malformed messages and rejected events without stopping")
+  void countsMalformedAndRejected() throws Exception {
+    Scoreboard scoreboard = new Scoreboard();
+
+    try (IngestionPipeline pipeline = new IngestionPipeline(scoreboard)) {
+      pipeline.submit("GARBAGE");
+      pipeline.submit("HOME_GOAL|Ghost|Team|" + START);
+      pipeline.submit("START|Mexico|Canada|" + START);
+      assertTrue(pipeline.awaitIdle(TIMEOUT));
+
+      IngestionMetrics metrics = pipeline.metrics();
+      assertEquals(1, metrics.malformed());
+      assertEquals(1, metrics.rejected());
+      assertEquals(1, metrics.applied());
+    }
+    assertEquals(1, scoreboard.getSummary().size());
+  }
+
+  @Test
+  @DisplayName("submissions racing with close are either applied or rejected, never stranded")
+  void submissionsRacingWithCloseAreNotStranded() throws Exception {
+    for (int round = 0; round < 50; round++) {
+      Scoreboard scoreboard = new Scoreboard();
+      IngestionPipeline pipeline = new IngestionPipeline(scoreboard, new LineFeedDecoder(), 2, 1);
+      List<Thread> submitters = new ArrayList<>();
+      for (int t = 0; t < 4; t++) {
+        String line = "START|Race-" + round + "-" + t + "|Away|" + START;
+        submitters.add(
+            Thread.ofPlatform()
+                .daemon()
+                .start(
+                    () -> {
+                      try {
+                        while (true) {
+                          pipeline.submit(line);
+                        }
+                      } catch (IllegalStateException | InterruptedException e) {
+                        // closed
+                      }
+                    }));
+      }
+      Thread.sleep(1);
+      pipeline.close();
+      for (Thread submitter : submitters) {
+        submitter.join(TIMEOUT.toMillis());
+        assertFalse(submitter.isAlive(), "submitter blocked on a stopped lane");
+      }
+
+      IngestionMetrics metrics = pipeline.metrics();
+      assertTrue(pipeline.awaitIdle(Duration.ZERO));
+      assertEquals(metrics.received(), metrics.applied() + metrics.rejected());
+    }
+  }
+
+  @Test
+  @DisplayName("rejects new sources once closed")
+  void rejectsSourcesAfterClose() throws IOException {
+    IngestionPipeline pipeline = new IngestionPipeline(new Scoreboard());
+    pipeline.close();
+
+    assertThrows(IllegalStateException.class, () -> pipeline.ingest(new StringReader("")));
+  }
+}
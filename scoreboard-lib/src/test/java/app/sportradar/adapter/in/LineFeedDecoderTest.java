@@ -0,0 +1,99 @@
+package app.sportradar.adapter.in;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import app.sportradar.domain.MatchKey;
+import app.sportradar.domain.ScoreEvent;
+import app.sportradar.domain.Scoreboard;
+import app.sportradar.domain.TeamDictionary;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class LineFeedDecoderTest {
+  private static final LocalDateTime START = LocalDateTime.of(2026, 6, 15, 20, 0);
+
+  private final LineFeedDecoder decoder = new LineFeedDecoder();
+
+  @Test
+  @DisplayName("decodes every message type")
+  void decodesMessages() {
+    FeedEvent started = decoder.decode("START|Mexico|Canada|2026-06-15T20:00");
+    MatchKey key = MatchKey.of("Mexico", "Canada", START);
+
+    assertEquals(new FeedEvent.MatchStarted(key), started);
+    assertEquals(
+        new FeedEvent.ScoreUpdated(ScoreEvent.incrementHomeTeamScore(key)),
+        decoder.decode("HOME_GOAL|Mexico|Canada|2026-06-15T20:00"));
+    assertEquals(
+        new FeedEvent.ScoreUpdated(ScoreEvent.incrementAwayTeamScore(key)),
+        decoder.decode("AWAY_GOAL|Mexico|Canada|2026-06-15T20:00"));
+    assertEquals(
+        new FeedEvent.ScoreUpdated(ScoreEvent.updateScore(key, 3, 2)),
+        decoder.decode("SCORE|Mexico|Canada|2026-06-15T20:00|3|2"));
+    assertEquals(
+        new FeedEvent.MatchFinished(key), decoder.decode("FINISH|Mexico|Canada|2026-06-15T20:00"));
+  }
+
+  @Test
+  @DisplayName("decoding registers no team names, the started match is still addressed")
+  void decodingRegistersNoTeams() {
+    int teams = TeamDictionary.shared().size();
+    FeedEvent goal = decoder.decode("HOME_GOAL|Decoder Home|Decoder Away|2026-06-15T20:00");
+    FeedEvent started = decoder.decode("START|Decoder Home|Decoder Away|2026-06-15T20:00");
+
+    assertEquals(teams, TeamDictionary.shared().size());
+    assertEquals(started.matchKey(), goal.matchKey());
+
+    Scoreboard scoreboard = new Scoreboard();
+    MatchKey key = started.matchKey();
+    scoreboard.startMatch(key.homeTeam(), key.awayTeam(), key.startTime());
+    assertNotNull(scoreboard.findMatch(goal.matchKey()));
+    assertNotNull(
+        scoreboard.findMatch(
+            decoder.decode("FINISH|Decoder Home|Decoder Away|2026-06-15T20:00").matchKey()));
+  }
+
+  @Test
+  @DisplayName("start lines the scoreboard rejects leave no team names behind")
+  void rejectedStartLinesDoNotRegisterTeams() {
+    FeedEvent started = decoder.decode("START|Selfplay|selfplay|2026-06-15T20:00");
+    MatchKey key = started.matchKey();
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new Scoreboard().startMatch(key.homeTeam(), key.awayTeam(), key.startTime()));
+    assertEquals(TeamDictionary.UNKNOWN, TeamDictionary.shared().lookupId("Selfplay"));
+    assertEquals(TeamDictionary.UNKNOWN, TeamDictionary.shared().lookupId("selfplay"));
+  }
+
+  @Test
+  @DisplayName("malformed start lines do not register team names")
+  void malformedStartLinesDoNotRegisterTeams() {
+    int teams = TeamDictionary.shared().size();
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> decoder.decode("START|Malformed Home|Malformed Away|2026-06-15T20:00|extra"));
+
+    assertEquals(teams, TeamDictionary.shared().size());
+  }
+
+  @ParameterizedTest
+  @DisplayName("rejects malformed lines")
+  @ValueSource(
+      strings = {
+        "START|Mexico|Canada",
+        "KICKOFF|Mexico|Canada|2026-06-15T20:00",
+        "START|Mexico|Canada|yesterday",
+        "SCORE|Mexico|Canada|2026-06-15T20:00|3",
+        "SCORE|Mexico|Canada|2026-06-15T20:00|x|2",
+        "FINISH|Mexico|Canada|2026-06-15T20:00|extra",
+        "START| |Canada|2026-06-15T20:00"
+      })
+  void rejectsMalformedLines(String line) {
+    assertThrows(IllegalArgumentException.class, () -> decoder.decode(line));
+  }
+}
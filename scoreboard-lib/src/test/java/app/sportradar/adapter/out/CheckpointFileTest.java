@@ -0,0 +1,98 @@
+package app.sportradar.adapter.out;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import app.sportradar.domain.Scoreboard;
+import app.sportradar.domain.ScoreboardSnapshot;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CheckpointFileTest {
+  private static final LocalDateTime START = LocalDateTime.of(2026, 6, 15, 20, 0);
+
+  /** Offset of the first entry's home team index: header, "Mexico" and "Canada", match count. */
+  private static final int FIRST_HOME_ID = 4 + 2 + 8 + 4 + (2 + 6) * 2 + 4;
+
+  @TempDir Path directory;
+
+  @Test
+  @DisplayName("a written checkpoint reads back as the same snapshot")
+  void roundTrips() throws IOException {
+    Path file = writeCheckpoint();
+
+    ScoreboardSnapshot read = CheckpointFile.read(file);
+
+    assertEquals(2, read.version());
+    assertEquals(1, read.size());
+    assertEquals("Mexico", read.summary().get(0).getHomeTeam());
+    assertEquals(1, read.summary().get(0).getScore().homeScore());
+    assertFalse(Files.exists(directory.resolve("checkpoint.bin.tmp")));
+  }
+
+  @Test
+  @DisplayName("a flipped byte fails the checksum")
+  void rejectsFlippedBytes() throws IOException {
+    Path file = writeCheckpoint();
+    byte[] bytes = Files.readAllBytes(file);
+    bytes[FIRST_HOME_ID + 8] ^= 1;
+    Files.write(file, bytes);
+
+    IOException e = assertThrows(IOException.class, () -> CheckpointFile.read(file));
+    assertTrue(e.getMessage().contains("checksum"), e.getMessage());
+  }
+
+  @Test
+  @DisplayName("a team index outside the team table is rejected even with a valid checksum")
+  void rejectsTeamIndexOutOfBounds() throws IOException {
+    Path file = writeCheckpoint();
+    byte[] bytes = Files.readAllBytes(file);
+    ByteBuffer.wrap(bytes).putInt(FIRST_HOME_ID, 7);
+    CRC32 crc = new CRC32();
+    crc.update(bytes, 0, bytes.length - 4);
+    ByteBuffer.wrap(bytes).putInt(bytes.length - 4, (int) crc.getValue());
+    Files.write(file, bytes);
+
+    IOException e = assertThrows(IOException.class, () -> CheckpointFile.read(file));
+    assertTrue(e.getMessage().contains("team index 7"), e.getMessage());
+  }
+
+  @Test
+  @DisplayName("a truncated checkpoint is rejected with an IOException")
+  void rejectsTruncatedFiles() throws IOException {
+    Path file = writeCheckpoint();
+    byte[] bytes = Files.readAllBytes(file);
+
+    Files.write(file, Arrays.copyOf(bytes, bytes.length - 6));
+    assertThrows(IOException.class, () -> CheckpointFile.read(file));
+    Files.write(file, Arrays.copyOf(bytes, 10));
+    assertThrows(IOException.class, () -> CheckpointFile.read(file));
+  }
+
+  @Test
+  @DisplayName("delete removes the checkpoint and tolerates a missing one")
+  void deleteRemovesCheckpoint() throws IOException {
+    Path file = writeCheckpoint();
+
+    CheckpointFile.delete(file);
+    CheckpointFile.delete(file);
+
+    assertNull(CheckpointFile.read(file));
+  }
+
+  private Path writeCheckpoint() throws IOException {
+    Scoreboard scoreboard = new Scoreboard();
+    scoreboard.startMatch("Mexico", "Canada", START);
+    scoreboard.incrementHomeTeamScore("Mexico", "Canada", START);
+    Path file = directory.resolve("checkpoint.bin");
+    CheckpointFile.write(file, scoreboard.snapshot());
+    return file;
+  }
+}
@@ -0,0 +1,118 @@
+package app.sportradar.adapter.out;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import app.sportradar.domain.MatchKey;
+import app.sportradar.domain.ScoreEvent;
+import app.sportradar.domain.Scoreboard;
+import app.sportradar.domain.ScoreboardJournal;
+import app.sportradar.domain.ScoreboardMetrics.Operation;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HistogramScoreboardMetricsTest {
+  private static final LocalDateTime START = LocalDateTime.of(2026, 6, 15, 20, 0);
+
+  @Test
+  @DisplayName("counts and times every scoreboard operation")
+  void recordsOperations() {
+    HistogramScoreboardMetrics metrics = new HistogramScoreboardMetrics();
+    Scoreboard scoreboard = new Scoreboard(ScoreboardJournal.NONE, metrics);
+
+    scoreboard.startMatch("Mexico", "Canada", START);
+    scoreboard.startMatch("Spain", "Brazil", START);
+    scoreboard.incrementHomeTeamScore("Mexico", "Canada", START);
+    scoreboard.updateScore("Spain", "Brazil", START, 2, 1);
+    scoreboard.findMatch("Mexico", "Canada", START);
+    scoreboard.getSummary();
+    scoreboard.getSummary(1);
+    scoreboard.snapshot();
+    scoreboard.finishMatch("Spain", "Brazil", START);
+
+    assertEquals(2, metrics.count(Operation.START_MATCH));
+    assertEquals(2, metrics.count(Operation.UPDATE_SCORE));
+    assertEquals(1, metrics.count(Operation.FIND_MATCH));
+    assertEquals(2, metrics.count(Operation.GET_SUMMARY));
+    assertEquals(1, metrics.count(Operation.SNAPSHOT));
+    assertEquals(1, metrics.count(Operation.FINISH_MATCH));
+    assertEquals(2, metrics.summarySizes().count());
+    assertEquals(2, metrics.summarySizes().max());
+    assertTrue(metrics.latency(Operation.START_MATCH).max() > 0);
+    assertEquals(1, metrics.liveMatches());
+  }
+
+  @Test
+  @DisplayName("counts misses per operation instead of logging them")
+  void recordsMisses() {
+    HistogramScoreboardMetrics metrics = new HistogramScoreboardMetrics();
+    Scoreboard scoreboard = new Scoreboard(ScoreboardJournal.NONE, metrics);
+    scoreboard.startMatch("Mexico", "Canada", START);
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> scoreboard.incrementHomeTeamScore("Spain", "Brazil", START));
+    scoreboard.incrementHomeTeamScore("Mexico", "Canada", START);
+    scoreboard.findMatch("Spain", "Brazil", START);
+    scoreboard.finishMatch("Spain", "Brazil", START);
+    scoreboard.applyBatch(
+        List.of(
+            ScoreEvent.incrementHomeTeamScore(MatchKey.of("Spain", "Brazil", START)),
+            ScoreEvent.incrementHomeTeamScore(MatchKey.of("Mexico", "Canada", START))));
+
+    assertEquals(1, metrics.misses(Operation.UPDATE_SCORE));
+    assertEquals(0.5, metrics.missRate(Operation.UPDATE_SCORE));
+    assertEquals(1, metrics.misses(Operation.FIND_MATCH));
+    assertEquals(1, metrics.misses(Operation.FINISH_MATCH));
+    assertEquals(1, metrics.misses(Operation.APPLY_BATCH));
+    assertEquals(1, metrics.count(Operation.APPLY_BATCH));
+  }
+
+  @Test
+  @DisplayName("histogram percentiles stay within the bucket precision")
+  void histogramPercentiles() {
+    ConcurrentHistogram histogram = new ConcurrentHistogram();
+    for (int value = 1; value <= 10_000; value++) {
+      histogram.record(value);
+    }
+
+    assertEquals(10_000, histogram.count());
+    assertEquals(10_000, histogram.max());
+    assertEquals(5_000, histogram.percentile(50), 5_000 * 0.04);
+    assertEquals(9_900, histogram.percentile(99), 9_900 * 0.04);
+    assertEquals(10_000, histogram.percentile(100));
+    assertEquals(0, new ConcurrentHistogram().percentile(99));
+  }
+
+  @Test
+  @DisplayName("merged histograms report the combined distribution")
+  void histogramMerge() {
+    ConcurrentHistogram low = new ConcurrentHistogram();
+    ConcurrentHistogram high = new ConcurrentHistogram();
+    for (int value = 1; value <= 5_000; value++) {
+      low.record(value);
+      high.record(value + 5_000);
+    }
+
+    low.merge(high);
+
+    assertEquals(10_000, low.count());
+    assertEquals(10_000, low.max());
+    assertEquals(9_900, low.percentile(99), 9_900 * 0.04);
+    assertEquals(5_000, high.count());
+  }
+
+  @Test
+  @DisplayName("latency summary reports nanosecond percentiles in microseconds")
+  void histogramLatencySummary() {
+    ConcurrentHistogram histogram = new ConcurrentHistogram();
+    histogram.record(1_500);
+
+    assertEquals(
+        String.format(
+            "n=1 p50=%.1fus p90=%.1fus p99=%.1fus p99.9=%.1fus max=%.1fus",
+            1.5, 1.5, 1.5, 1.5, 1.5),
+        histogram.latencySummary());
+  }
+}
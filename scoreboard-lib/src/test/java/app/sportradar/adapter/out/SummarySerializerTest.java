@@ -0,0 +1,88 @@
+package app.sportradar.adapter.out;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import app.sportradar.adapter.out.SummarySerializer.Format;
+import app.sportradar.domain.Scoreboard;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SummarySerializerTest {
+  private static final LocalDateTime START = LocalDateTime.of(2026, 6, 15, 20, 0);
+
+  @Test
+  @DisplayName("JSON lists the summary in order with escaped team names")
+  void encodesJson() throws Exception {
+    Scoreboard scoreboard = new Scoreboard();
+    scoreboard.startMatch("Mexico", "Canada", START);
+    scoreboard.startMatch("Côte \"d'Ivoire\"", "Spain", START.plusNanos(1_500));
+    scoreboard.updateScore("Mexico", "Canada", START, 0, 5);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    new SummarySerializer(scoreboard).writeTo(out, Format.JSON);
+
+    assertEquals(
+        "{\"version\":3,\"matches\":["
+            + "{\"rank\":1,\"homeTeam\":\"Mexico\",\"awayTeam\":\"Canada\","
+            + "\"homeScore\":0,\"awayScore\":5,\"startTime\":\"2026-06-15T20:00:00\"},"
+            + "{\"rank\":2,\"homeTeam\":\"Côte \\\"d'Ivoire\\\"\",\"awayTeam\":\"Spain\","
+            + "\"homeScore\":0,\"awayScore\":0,\"startTime\":\"2026-06-15T20:00:00.000001500\"}]}",
+        out.toString(StandardCharsets.UTF_8));
+    assertEquals(START.plusNanos(1_500), LocalDateTime.parse("2026-06-15T20:00:00.000001500"));
+  }
+
+  @Test
+  @DisplayName("binary encodes version, count and every match field")
+  void encodesBinary() {
+    Scoreboard scoreboard = new Scoreboard();
+    scoreboard.startMatch("Mexico", "Canadá", START);
+    scoreboard.updateScore("Mexico", "Canadá", START, 2, 1);
+
+    ByteBuffer buffer = new SummarySerializer(scoreboard).serialize(Format.BINARY);
+
+    assertTrue(buffer.isReadOnly());
+    assertEquals(2, buffer.getLong());
+    assertEquals(1, buffer.getInt());
+    assertEquals("Mexico", readName(buffer));
+    assertEquals("Canadá", readName(buffer));
+    assertEquals(2, buffer.getInt());
+    assertEquals(1, buffer.getInt());
+    assertEquals(START.toEpochSecond(ZoneOffset.UTC), buffer.getLong());
+    assertEquals(0, buffer.getInt());
+    assertFalse(buffer.hasRemaining());
+  }
+
+  @Test
+  @DisplayName("readers share one payload per version and see new versions after a change")
+  void reusesPayloadPerVersion() {
+    Scoreboard scoreboard = new Scoreboard();
+    scoreboard.startMatch("Mexico", "Canada", START);
+    SummarySerializer serializer = new SummarySerializer(scoreboard);
+
+    ByteBuffer first = serializer.serialize(Format.JSON);
+    ByteBuffer second = serializer.serialize(Format.JSON);
+    ByteBuffer target = ByteBuffer.allocate(first.remaining());
+    serializer.writeTo(target, Format.JSON);
+
+    assertEquals(first, second);
+    assertEquals(first, target.flip());
+    scoreboard.incrementHomeTeamScore("Mexico", "Canada", START);
+    assertNotEquals(first, serializer.serialize(Format.JSON));
+    assertTrue(
+        StandardCharsets.UTF_8
+            .decode(serializer.serialize(Format.JSON))
+            .toString()
+            .contains("\"homeScore\":1"));
+  }
+
+  private static String readName(ByteBuffer buffer) {
+    byte[] utf8 = new byte[Short.toUnsignedInt(buffer.getShort())];
+    buffer.get(utf8);
+    return new String(utf8, StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,295 @@
+package app.sportradar.adapter.out;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import app.sportradar.domain.Match;
+import app.sportradar.domain.Scoreboard;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class WriteAheadLogScoreboardRepositoryTest {
+  private static final LocalDateTime START = LocalDateTime.of(2026, 6, 15, 20, 0, 0, 123_000);
+
+  @TempDir Path directory;
+
+  @Test
+  @DisplayName("mutations survive a restart of the repository")
+  void mutationsSurviveRestart() throws IOException {
+    Path logDirectory = directory.resolve("scoreboard");
+    try (WriteAheadLogScoreboardRepository repository =
+        new WriteAheadLogScoreboardRepository(logDirectory)) {
+      Scoreboard scoreboard = repository.getScoreboard();
+      scoreboard.startMatch("Mexico", "Canada", START);
+      scoreboard.startMatch("Spain", "Brazil", START.plusMinutes(1));
+      scoreboard.incrementHomeTeamScore("Mexico", "Canada", START);
+      scoreboard.updateScore("Spain", "Brazil", START.plusMinutes(1), 3, 2);
+      scoreboard.finishMatch("Mexico", "Canada", START);
+    }
+
+    try (WriteAheadLogScoreboardRepository restarted =
+        new WriteAheadLogScoreboardRepository(logDirectory)) {
+      Scoreboard recovered = restarted.getScoreboard();
+
+      assertNull(recovered.findMatch("Mexico", "Canada", START));
+      Match spain = recovered.findMatch("Spain", "Brazil", START.plusMinutes(1));
+      assertNotNull(spain);
+      assertEquals(3, spain.getScore().homeScore());
+      assertEquals(2, spain.getScore().awayScore());
+      assertEquals(1, recovered.getSummary().size());
+    }
+  }
+
+  @Test
+  @DisplayName("a torn record at the end of the log is discarded on replay")
+  void tornTailIsDiscarded() throws IOException {
+    Path logDirectory = directory.resolve("scoreboard");
+    try (WriteAheadLogScoreboardRepository repository =
+        new WriteAheadLogScoreboardRepository(logDirectory)) {
+      repository.getScoreboard().startMatch("Home", "Away", START);
+      repository.getScoreboard().incrementAwayTeamScore("Home", "Away", START);
+    }
+    Path segment = segments(logDirectory).get(0);
+    try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+      channel.truncate(Files.size(segment) - 3);
+    }
+
+    try (WriteAheadLogScoreboardRepository restarted =
+        new WriteAheadLogScoreboardRepository(logDirectory)) {
+      Match recovered = restarted.getScoreboard().findMatch("Home", "Away", START);
+
+      assertNotNull(recovered);
+      assertTrue(recovered.getScore().isInitial());
+      restarted.getScoreboard().incrementHomeTeamScore("Home", "Away", START);
+    }
+
+    try (WriteAheadLogScoreboardRepository again =
+        new WriteAheadLogScoreboardRepository(logDirectory)) {
+      assertEquals(
+          1, again.getScoreboard().findMatch("Home", "Away", START).getScore().homeScore());
+    }
+  }
+
+  @Test
+  @DisplayName("save stores a journaled copy and stops logging the replaced scoreboard")
+  void saveStoresJournaledCopy() throws IOException {
+    Path logDirectory = directory.resolve("scoreboard");
+    try (WriteAheadLogScoreboardRepository repository =
+        new WriteAheadLogScoreboardRepository(logDirectory)) {
+      Scoreboard previous = repository.getScoreboard();
+      previous.startMatch("Old", "Match", START);
+      Scoreboard replacement = new Scoreboard();
+      replacement.startMatch("A", "B", START);
+      replacement.updateScore("A", "B", START, 1, 1);
+
+      repository.save(replacement);
+      previous.startMatch("Stale", "Board", START);
+
+      assertNotNull(repository.getScoreboard().findMatch("A", "B", START));
+    }
+
+    try (WriteAheadLogScoreboardRepository restarted =
+        new WriteAheadLogScoreboardRepository(logDirectory)) {
+      Scoreboard recovered = restarted.getScoreboard();
+      assertEquals(1, recovered.getSummary().size());
+      assertEquals(2, recovered.findMatch("A", "B", START).getScore().total());
+    }
+  }
+
+  @Test
+  @DisplayName("clear empties both the scoreboard and the log")
+  void clearEmptiesScoreboardAndLog() throws IOException {
+    Path logDirectory = directory.resolve("scoreboard");
+    try (WriteAheadLogScoreboardRepository repository =
+        new WriteAheadLogScoreboardRepository(logDirectory)) {
+      repository.getScoreboard().startMatch("Home", "Away", START);
+
+      repository.clear();
+
+      assertTrue(repository.getScoreboard().getSummary().isEmpty());
+    }
+
+    try (WriteAheadLogScoreboardRepository restarted =
+        new WriteAheadLogScoreboardRepository(logDirectory)) {
+      assertTrue(restarted.getScoreboard().getSummary().isEmpty());
+    }
+  }
+
+  @Test
+  @DisplayName("save and clear replace the checkpoint with an empty one after emptying the log")
+  void saveAndClearReplaceCheckpoint() throws IOException {
+    Path logDirectory = directory.resolve("scoreboard");
+    Path checkpoint = logDirectory.resolve("checkpoint.bin");
+    try (WriteAheadLogScoreboardRepository repository =
+        new WriteAheadLogScoreboardRepository(logDirectory)) {
+      repository.getScoreboard().startMatch("Old", "Match", START);
+      repository.checkpoint();
+      Scoreboard replacement = new Scoreboard();
+      replacement.startMatch("A", "B", START);
+
+      repository.save(replacement);
+
+      assertTrue(CheckpointFile.read(checkpoint).isEmpty());
+      repository.getScoreboard().startMatch("Old", "Match", START);
+      repository.checkpoint();
+      repository.clear();
+
+      assertTrue(CheckpointFile.read(checkpoint).isEmpty());
+      assertEquals(0L, CheckpointFile.read(checkpoint).version());
+    }
+  }
+
+  @Test
+  @DisplayName("a crash between dropping the checkpoint and emptying the log leaves it openable")
+  void recordsOfUnknownMatchesAreSkipped() throws IOException {
+    Path logDirectory = directory.resolve("scoreboard");
+    try (WriteAheadLogScoreboardRepository repository =
+        new WriteAheadLogScoreboardRepository(logDirectory)) {
+      Scoreboard scoreboard = repository.getScoreboard();
+      scoreboard.startMatch("Mexico", "Canada", START);
+      scoreboard.startMatch("Spain", "Brazil", START);
+      repository.checkpoint();
+      scoreboard.updateScore("Mexico", "Canada", START, 1, 0);
+      scoreboard.startMatch("Home", "Away", START);
+      scoreboard.incrementHomeTeamScore("Home", "Away", START);
+    }
+    // the log now only starts "Home" - "Away"; the other match lived in the checkpoint
+    CheckpointFile.delete(logDirectory.resolve("checkpoint.bin"));
+
+    try (WriteAheadLogScoreboardRepository restarted =
+        new WriteAheadLogScoreboardRepository(logDirectory)) {
+      Scoreboard recovered = restarted.getScoreboard();
+
+      assertNull(recovered.findMatch("Mexico", "Canada", START));
+      assertEquals(1, recovered.findMatch("Home", "Away", START).getScore().homeScore());
+      assertEquals(1, recovered.getSummary().size());
+    }
+  }
+
+  @Test
+  @DisplayName("save rejects null scoreboards")
+  void saveRejectsNullScoreboards() throws IOException {
+    try (WriteAheadLogScoreboardRepository repository =
+        new WriteAheadLogScoreboardRepository(directory.resolve("scoreboard"))) {
+      assertThrows(IllegalArgumentException.class, () -> repository.save(null));
+    }
+  }
+
+  @Test
+  @DisplayName("checkpoint covers earlier segments, which are deleted, and restarts from it")
+  void checkpointReplacesCoveredSegments() throws IOException {
+    Path logDirectory = directory.resolve("scoreboard");
+    try (WriteAheadLogScoreboardRepository repository =
+        new WriteAheadLogScoreboardRepository(logDirectory)) {
+      Scoreboard scoreboard = repository.getScoreboard();
+      scoreboard.startMatch("Mexico", "Canada", START);
+      scoreboard.startMatch("Spain", "Brazil", START);
+      scoreboard.updateScore("Mexico", "Canada", START, 2, 0);
+
+      repository.checkpoint();
+
+      assertTrue(Files.exists(logDirectory.resolve("checkpoint.bin")));
+      assertEquals(1, segments(logDirectory).size(), "only the active segment is left");
+      scoreboard.incrementAwayTeamScore("Mexico", "Canada", START);
+      scoreboard.finishMatch("Spain", "Brazil", START);
+    }
+
+    try (WriteAheadLogScoreboardRepository restarted =
+        new WriteAheadLogScoreboardRepository(logDirectory)) {
+      Scoreboard recovered = restarted.getScoreboard();
+
+      assertEquals(1, recovered.getSummary().size());
+      Match mexico = recovered.findMatch("Mexico", "Canada", START);
+      assertEquals(2, mexico.getScore().homeScore());
+      assertEquals(1, mexico.getScore().awayScore());
+      recovered.incrementHomeTeamScore("Mexico", "Canada", START);
+      restarted.checkpoint();
+    }
+
+    try (WriteAheadLogScoreboardRepository again =
+        new WriteAheadLogScoreboardRepository(logDirectory)) {
+      assertEquals(
+          3, again.getScoreboard().findMatch("Mexico", "Canada", START).getScore().homeScore());
+    }
+  }
+
+  @Test
+  @DisplayName("background checkpoints run on the configured interval")
+  void backgroundCheckpointsRun() throws Exception {
+    Path logDirectory = directory.resolve("scoreboard");
+    try (WriteAheadLogScoreboardRepository repository =
+        new WriteAheadLogScoreboardRepository(
+            logDirectory, Duration.ofMillis(1), Duration.ofMillis(10))) {
+      repository.getScoreboard().startMatch("Home", "Away", START);
+
+      long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+      while (!Files.exists(logDirectory.resolve("checkpoint.bin"))
+          && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+
+      assertTrue(Files.exists(logDirectory.resolve("checkpoint.bin")));
+    }
+  }
+
+  @Test
+  @DisplayName("concurrent updates of many matches are all replayed after a restart")
+  void concurrentUpdatesSurviveRestart() throws Exception {
+    Path logDirectory = directory.resolve("scoreboard");
+    int matches = 64;
+    int goals = 50;
+    try (WriteAheadLogScoreboardRepository repository =
+        new WriteAheadLogScoreboardRepository(logDirectory)) {
+      Scoreboard scoreboard = repository.getScoreboard();
+      for (int i = 0; i < matches; i++) {
+        scoreboard.startMatch("Home-" + i, "Away-" + i, START);
+      }
+      List<Thread> threads = new ArrayList<>();
+      for (int t = 0; t < 4; t++) {
+        int offset = t;
+        threads.add(
+            Thread.ofPlatform()
+                .start(
+                    () -> {
+                      for (int g = 0; g < goals; g++) {
+                        for (int i = offset; i < matches; i += 4) {
+                          scoreboard.incrementHomeTeamScore("Home-" + i, "Away-" + i, START);
+                        }
+                      }
+                    }));
+      }
+      for (Thread thread : threads) {
+        thread.join();
+      }
+    }
+
+    try (WriteAheadLogScoreboardRepository restarted =
+        new WriteAheadLogScoreboardRepository(logDirectory)) {
+      for (int i = 0; i < matches; i++) {
+        assertEquals(
+            goals,
+            restarted
+                .getScoreboard()
+                .findMatch("Home-" + i, "Away-" + i, START)
+                .getScore()
+                .homeScore());
+      }
+    }
+  }
+
+  private static List<Path> segments(Path logDirectory) throws IOException {
+    try (Stream<Path> files = Files.list(logDirectory)) {
+      return files.filter(path -> path.toString().endsWith(".wal")).sorted().toList();
+    }
+  }
+}
@@ -0,0 +1,218 @@
+package app.sportradar.domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ColumnarScoreboardTest {
+  private static final LocalDateTime START = LocalDateTime.of(2026, 6, 15, 20, 0, 0, 123_000);
+
+  @Test
+  @DisplayName("starts, updates, finds and finishes matches")
+  void basicLifecycle() {
+    ColumnarScoreboard scoreboard = new ColumnarScoreboard();
+    scoreboard.startMatch(" Mexico ", "Canada", START);
+
+    assertEquals(Score.of(1, 0), scoreboard.incrementHomeTeamScore("Mexico", "Canada", START));
+    assertEquals(Score.of(1, 2), scoreboard.updateScore("Mexico", "Canada", START, 1, 2));
+    assertEquals(Score.of(1, 1), scoreboard.decrementAwayScore("Mexico", "Canada", START));
+
+    Match match = scoreboard.findMatch("Mexico", "Canada", START);
+    assertEquals("Mexico", match.getHomeTeam());
+    assertEquals(START, match.getStartTime());
+    assertEquals(Score.of(1, 1), match.getScore());
+
+    scoreboard.finishMatch("Mexico", "Canada", START);
+
+    assertNull(scoreboard.findMatch("Mexico", "Canada", START));
+    assertEquals(0, scoreboard.size());
+  }
+
+  @Test
+  @DisplayName("a key built before its match starts finds the match afterwards")
+  void keyBuiltBeforeStartFindsMatch() {
+    ColumnarScoreboard scoreboard = new ColumnarScoreboard();
+    MatchKey key = MatchKey.of("Columnar Early", "Columnar Late", START);
+    assertNull(scoreboard.findMatch(key));
+
+    scoreboard.startMatch("Columnar Early", "Columnar Late", START);
+
+    assertEquals(Score.of(1, 0), scoreboard.incrementHomeTeamScore(key));
+    assertEquals(Score.of(1, 0), scoreboard.findMatch(key).getScore());
+  }
+
+  @Test
+  @DisplayName("updating a missing match throws IllegalArgumentException")
+  void updatingMissingMatchThrows() {
+    ColumnarScoreboard scoreboard = new ColumnarScoreboard();
+    scoreboard.startMatch("Mexico", "Canada", START);
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> scoreboard.incrementHomeTeamScore("Mexico", "Canada", START.plusSeconds(1)));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> scoreboard.incrementHomeTeamScore("Spain", "Brazil", START));
+  }
+
+  @Test
+  @DisplayName("summary matches the order of Scoreboard through growth, finishes and slot reuse")
+  void summaryMatchesScoreboard() {
+    ColumnarScoreboard columnar = new ColumnarScoreboard();
+    Scoreboard reference = new Scoreboard();
+    Random random = new Random(42);
+    List<MatchKey> live = new ArrayList<>();
+
+    for (int i = 0; i < 5_000; i++) {
+      int action = random.nextInt(10);
+      if (action < 4 || live.isEmpty()) {
+        LocalDateTime start = START.plusMinutes(random.nextInt(50));
+        String home = "Team-" + random.nextInt(40);
+        String away = "Team-" + (40 + random.nextInt(40));
+        columnar.startMatch(home, away, start);
+        reference.startMatch(home, away, start);
+        MatchKey key = MatchKey.of(home, away, start);
+        if (!live.contains(key)) {
+          live.add(key);
+        }
+      } else if (action < 8) {
+        MatchKey key = live.get(random.nextInt(live.size()));
+        int homeScore = random.nextInt(6);
+        int awayScore = random.nextInt(6);
+        columnar.updateScore(key, homeScore, awayScore);
+        reference.updateScore(
+            key.homeTeam(), key.awayTeam(), key.startTime(), homeScore, awayScore);
+      } else {
+        MatchKey key = live.remove(random.nextInt(live.size()));
+        columnar.finishMatch(key);
+        reference.finishMatch(key);
+      }
+    }
+
+    List<Match> expected = reference.getSummary();
+    assertEquals(expected.size(), columnar.size());
+    assertSummaryEquals(expected, columnar.getSummary());
+    assertSummaryEquals(expected.subList(0, 10), columnar.getSummary(10));
+  }
+
+  @Test
+  @DisplayName("ties are broken on the started spelling of the team names, like Scoreboard")
+  void tiesFollowScoreboardOrder() {
+    ColumnarScoreboard columnar = new ColumnarScoreboard();
+    Scoreboard reference = new Scoreboard();
+    for (String home : List.of("zulu", " Alpha", "ALPHA", "alpha ", "Zulu")) {
+      columnar.startMatch(home, "Away", START);
+      reference.startMatch(home, "Away", START);
+    }
+
+    List<Match> expected = reference.getSummary();
+    assertEquals(
+        List.of("ALPHA", "Alpha", "Zulu", "alpha", "zulu"),
+        expected.stream().map(Match::getHomeTeam).toList());
+    assertSummaryEquals(expected, columnar.getSummary());
+  }
+
+  @Test
+  @DisplayName("summary view streams the same entries as the materialized summary")
+  void summaryViewMatchesSummary() {
+    ColumnarScoreboard scoreboard = new ColumnarScoreboard();
+    for (int i = 0; i < 20; i++) {
+      scoreboard.startMatch("Home-" + i, "Away-" + i, START.plusMinutes(i));
+      scoreboard.updateScore("Home-" + i, "Away-" + i, START.plusMinutes(i), i % 4, i % 3);
+    }
+    List<Match> summary = scoreboard.getSummary(5);
+
+    SummaryView view = scoreboard.getSummaryView(5);
+
+    assertEquals(5, view.size());
+    for (Match expected : summary) {
+      assertTrue(view.next());
+      assertEquals(summary.indexOf(expected) + 1, view.rank());
+      assertEquals(expected.getHomeTeam(), view.homeTeam());
+      assertEquals(expected.getAwayTeam(), view.awayTeam());
+      assertEquals(expected.getScore().homeScore(), view.homeScore());
+      assertEquals(expected.getScore().awayScore(), view.awayScore());
+      assertEquals(expected.getKey().startEpochSecond(), view.startEpochSecond());
+      assertEquals(expected.getKey().startNano(), view.startNano());
+      assertEquals(expected, view.match());
+      assertEquals(expected.getScore(), view.match().getScore());
+    }
+    assertFalse(view.next());
+  }
+
+  @Test
+  @DisplayName("a presized board stores a match in under 32 bytes, a grown one in under 48")
+  void storesMatchesCompactly() {
+    int matches = 100_000;
+    ColumnarScoreboard presized = new ColumnarScoreboard(matches);
+    ColumnarScoreboard grown = new ColumnarScoreboard();
+    for (int i = 0; i < matches; i++) {
+      presized.startMatch("Home-" + i, "Away-" + i, START.plusSeconds(i));
+      grown.startMatch("Home-" + i, "Away-" + i, START.plusSeconds(i));
+    }
+
+    assertEquals(matches, presized.size());
+    assertTrue(presized.getStorageBytes() < 32L * matches);
+    assertTrue(grown.getStorageBytes() < 48L * matches);
+  }
+
+  @Test
+  @DisplayName("concurrent increments of one match never lose a goal")
+  void concurrentIncrementsAreAtomic() throws Exception {
+    ColumnarScoreboard scoreboard = new ColumnarScoreboard();
+    scoreboard.startMatch("Mexico", "Canada", START);
+    int threads = 8;
+    int incrementsPerThread = 100;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch startSignal = new CountDownLatch(1);
+    List<Future<?>> futures = new ArrayList<>();
+    try {
+      for (int t = 0; t < threads; t++) {
+        int index = t;
+        futures.add(
+            executor.submit(
+                () -> {
+                  startSignal.await();
+                  for (int i = 0; i < incrementsPerThread; i++) {
+                    if (index % 2 == 0) {
+                      scoreboard.incrementHomeTeamScore("Mexico", "Canada", START);
+                    } else {
+                      scoreboard.incrementAwayTeamScore("Mexico", "Canada", START);
+                    }
+                    // churn other slots so the index keeps moving
+                    String home = "Home-" + index + "-" + i;
+                    scoreboard.startMatch(home, "Away", START);
+                    scoreboard.finishMatch(home, "Away", START);
+                  }
+                  return null;
+                }));
+      }
+      startSignal.countDown();
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    Score score = scoreboard.findMatch("Mexico", "Canada", START).getScore();
+    assertEquals(threads * incrementsPerThread, score.total());
+    assertEquals(1, scoreboard.size());
+  }
+
+  private static void assertSummaryEquals(List<Match> expected, List<Match> actual) {
+    assertEquals(expected, actual);
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(expected.get(i).getScore(), actual.get(i).getScore());
+    }
+  }
+}
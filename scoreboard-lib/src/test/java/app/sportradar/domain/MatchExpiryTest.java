@@ -0,0 +1,244 @@
+package app.sportradar.domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MatchExpiryTest {
+  private static final LocalDateTime KICK_OFF = LocalDateTime.of(2026, 6, 15, 20, 0);
+
+  private final ManualClock clock = new ManualClock(KICK_OFF.toInstant(ZoneOffset.UTC));
+
+  @Test
+  @DisplayName("finishes matches without changes for the idle timeout")
+  void expiresIdleMatches() {
+    MatchExpiry expiry = newExpiry(Duration.ofMinutes(10), null);
+    Scoreboard scoreboard = new Scoreboard();
+    expiry.start(scoreboard);
+    scoreboard.startMatch("Mexico", "Canada", KICK_OFF);
+    scoreboard.startMatch("Spain", "Brazil", KICK_OFF);
+    awaitEvents(expiry, 2);
+
+    clock.advance(Duration.ofMinutes(6));
+    scoreboard.incrementHomeTeamScore("Spain", "Brazil", KICK_OFF);
+    awaitEvents(expiry, 3);
+    clock.advance(Duration.ofMinutes(5));
+    expiry.tick();
+
+    assertNull(scoreboard.findMatch("Mexico", "Canada", KICK_OFF));
+    assertNotNull(scoreboard.findMatch("Spain", "Brazil", KICK_OFF));
+    assertEquals(1, expiry.getExpiredCount());
+
+    clock.advance(Duration.ofMinutes(6));
+    expiry.tick();
+
+    assertNull(scoreboard.findMatch("Spain", "Brazil", KICK_OFF));
+    assertEquals(2, expiry.getExpiredCount());
+    expiry.close();
+  }
+
+  @Test
+  @DisplayName("finishes matches live for longer than the max duration despite updates")
+  void expiresMatchesPastMaxDuration() {
+    MatchExpiry expiry = newExpiry(Duration.ofMinutes(30), Duration.ofHours(3));
+    Scoreboard scoreboard = new Scoreboard();
+    expiry.start(scoreboard);
+    scoreboard.startMatch("Mexico", "Canada", KICK_OFF.minusHours(2));
+
+    for (int i = 0; i < 5; i++) {
+      clock.advance(Duration.ofMinutes(10));
+      scoreboard.incrementHomeTeamScore("Mexico", "Canada", KICK_OFF.minusHours(2));
+      awaitEvents(expiry, i + 2);
+      expiry.tick();
+      assertNotNull(scoreboard.findMatch("Mexico", "Canada", KICK_OFF.minusHours(2)));
+    }
+    clock.advance(Duration.ofMinutes(10));
+    expiry.tick();
+
+    assertNull(scoreboard.findMatch("Mexico", "Canada", KICK_OFF.minusHours(2)));
+    expiry.close();
+  }
+
+  @Test
+  @DisplayName("schedules live matches on start and deadlines beyond one wheel revolution")
+  void schedulesExistingAndDistantMatches() {
+    MatchExpiry expiry = newExpiry(Duration.ofHours(3), null);
+    Scoreboard scoreboard = new Scoreboard();
+    scoreboard.startMatch("Mexico", "Canada", KICK_OFF);
+    expiry.start(scoreboard);
+
+    clock.advance(Duration.ofHours(2));
+    expiry.tick();
+    assertNotNull(scoreboard.findMatch("Mexico", "Canada", KICK_OFF));
+    clock.advance(Duration.ofHours(1));
+    expiry.tick();
+
+    assertNull(scoreboard.findMatch("Mexico", "Canada", KICK_OFF));
+    assertThrows(IllegalStateException.class, () -> expiry.start(scoreboard));
+    expiry.close();
+  }
+
+  @Test
+  @DisplayName("keeps one wheel entry per match and drops it when the match finishes")
+  void keepsOneEntryPerMatch() {
+    MatchExpiry expiry = newExpiry(Duration.ofMinutes(10), null);
+    Scoreboard scoreboard = new Scoreboard();
+    expiry.start(scoreboard);
+    scoreboard.startMatch("Mexico", "Canada", KICK_OFF);
+    scoreboard.startMatch("Spain", "Brazil", KICK_OFF);
+    for (int i = 0; i < 100; i++) {
+      scoreboard.incrementHomeTeamScore("Mexico", "Canada", KICK_OFF);
+    }
+    awaitEvents(expiry, 102);
+    expiry.tick();
+
+    assertEquals(2, expiry.scheduledCount());
+
+    scoreboard.finishMatch("Spain", "Brazil", KICK_OFF);
+    awaitEvents(expiry, 103);
+    expiry.tick();
+
+    assertEquals(1, expiry.scheduledCount());
+    expiry.close();
+  }
+
+  @Test
+  @DisplayName("reads start times as UTC whatever the zone of the clock")
+  void readsStartTimesAsUtc() {
+    clock.zone = ZoneId.of("America/Mexico_City");
+    MatchExpiry expiry = newExpiry(null, Duration.ofHours(3));
+    Scoreboard scoreboard = new Scoreboard();
+    scoreboard.startMatch("Mexico", "Canada", KICK_OFF);
+    expiry.start(scoreboard);
+
+    clock.advance(Duration.ofMinutes(179));
+    expiry.tick();
+    assertNotNull(scoreboard.findMatch("Mexico", "Canada", KICK_OFF));
+    clock.advance(Duration.ofMinutes(1));
+    expiry.tick();
+
+    assertNull(scoreboard.findMatch("Mexico", "Canada", KICK_OFF));
+    expiry.close();
+  }
+
+  @Test
+  @DisplayName("expires matches of a journaled scoreboard")
+  void expiresJournaledScoreboards() {
+    List<ScoreboardEvent> journaled = new CopyOnWriteArrayList<>();
+    MatchExpiry expiry = newExpiry(Duration.ofMinutes(10), null);
+    Scoreboard scoreboard = new Scoreboard(journaled::add);
+    expiry.start(scoreboard);
+    scoreboard.startMatch("Mexico", "Canada", KICK_OFF);
+    awaitEvents(expiry, 1);
+
+    clock.advance(Duration.ofMinutes(10));
+    expiry.tick();
+
+    assertNull(scoreboard.findMatch("Mexico", "Canada", KICK_OFF));
+    assertInstanceOf(ScoreboardEvent.MatchFinished.class, journaled.get(1));
+    expiry.close();
+  }
+
+  @Test
+  @DisplayName("reschedules a match whose scheduled state went stale instead of dropping it")
+  void reschedulesStaleEntries() {
+    MatchExpiry expiry = newExpiry(Duration.ofMinutes(10), null);
+    Match[] beforeGoal = new Match[1];
+    Scoreboard scoreboard =
+        new Scoreboard() {
+          private boolean scanned;
+
+          // the initial scan reads the match before its goal, as when the goal's event reaches the
+          // wheel ahead of the scanned entry
+          @Override
+          public Map<MatchKey, Match> getMatchMap() {
+            if (scanned) {
+              return super.getMatchMap();
+            }
+            scanned = true;
+            return Map.of(beforeGoal[0].getKey(), beforeGoal[0]);
+          }
+        };
+    scoreboard.startMatch("Mexico", "Canada", KICK_OFF);
+    beforeGoal[0] = scoreboard.findMatch("Mexico", "Canada", KICK_OFF);
+    scoreboard.incrementHomeTeamScore("Mexico", "Canada", KICK_OFF);
+    expiry.start(scoreboard);
+
+    clock.advance(Duration.ofMinutes(10));
+    expiry.tick();
+    assertNotNull(scoreboard.findMatch("Mexico", "Canada", KICK_OFF));
+    clock.advance(Duration.ofMinutes(10));
+    expiry.tick();
+
+    assertNull(scoreboard.findMatch("Mexico", "Canada", KICK_OFF));
+    assertEquals(1, expiry.getExpiredCount());
+    expiry.close();
+  }
+
+  @Test
+  @DisplayName("rejects starting a closed expiry")
+  void rejectsStartAfterClose() {
+    MatchExpiry expiry = newExpiry(Duration.ofMinutes(10), null);
+    expiry.close();
+
+    assertThrows(IllegalStateException.class, () -> expiry.start(new Scoreboard()));
+  }
+
+  @Test
+  @DisplayName("rejects an expiry without any limit")
+  void requiresALimit() {
+    assertThrows(IllegalArgumentException.class, () -> new MatchExpiry(null, null));
+    assertThrows(IllegalArgumentException.class, () -> new MatchExpiry(Duration.ZERO, null));
+  }
+
+  /** Events reach the expiry asynchronously; waits until it has taken {@code count} of them. */
+  private static void awaitEvents(MatchExpiry expiry, long count) {
+    long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+    while (expiry.receivedCount() < count) {
+      assertTrue(System.nanoTime() < deadline, "expiry did not receive its events");
+      Thread.onSpinWait();
+    }
+  }
+
+  private MatchExpiry newExpiry(Duration idleTimeout, Duration maxDuration) {
+    return new MatchExpiry(idleTimeout, maxDuration, Duration.ofSeconds(1), clock);
+  }
+
+  private static final class ManualClock extends Clock {
+    private volatile Instant now;
+    private volatile ZoneId zone = ZoneOffset.UTC;
+
+    private ManualClock(Instant now) {
+      this.now = now;
+    }
+
+    private void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
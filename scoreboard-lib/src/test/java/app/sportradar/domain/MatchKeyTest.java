@@ -0,0 +1,99 @@
+package app.sportradar.domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import utils.TestUtils;
+
+@DisplayName("MatchKey")
+class MatchKeyTest {
+
+  @Test
+  @DisplayName("key built from identifiers equals the key of the equivalent match")
+  void keyFromIdentifiersEqualsMatchKey() {
+    Match match = TestUtils.createValidMatch();
+
+    MatchKey key = MatchKey.of(" Home ", "Away ", match.getStartTime());
+
+    assertEquals(match.getKey(), key);
+    assertEquals(match.getKey().hashCode(), key.hashCode());
+    assertSame(match.getKey(), MatchKey.of(match));
+  }
+
+  @Test
+  @DisplayName("team names with colliding hashes still make distinct keys")
+  void keysWithCollidingHashesAreDistinct() {
+    LocalDateTime start = LocalDateTime.of(2026, 1, 1, 12, 0);
+    // "Aa" and "BB" share the same String.hashCode()
+    MatchKey first = MatchKey.of("Aa", "Away", start);
+    MatchKey second = MatchKey.of("BB", "Away", start);
+
+    assertEquals("Aa".hashCode(), "BB".hashCode());
+    assertNotEquals(first, second);
+  }
+
+  @Test
+  @DisplayName("keys respect the case of team names")
+  void keysRespectCase() {
+    LocalDateTime start = LocalDateTime.of(2026, 1, 1, 12, 0);
+    MatchKey key = MatchKey.of("KeyCase Home", "Away", start);
+
+    assertEquals(key, MatchKey.of(" KeyCase Home", "Away ", start));
+    assertNotEquals(key, MatchKey.of("keycase HOME", "Away", start));
+  }
+
+  @Test
+  @DisplayName("lookup probes are reused, find started matches and skip unknown teams")
+  void probesFindStartedMatches() {
+    LocalDateTime start = LocalDateTime.of(2026, 1, 1, 12, 0);
+    Scoreboard scoreboard = new Scoreboard();
+    scoreboard.startMatch("Probe Home", "Probe Away", start);
+
+    Object probe = MatchKey.probe(" Probe Home ", "Probe Away", start);
+
+    assertEquals(MatchKey.of("Probe Home", "Probe Away", start).hashCode(), probe.hashCode());
+    assertSame(probe, MatchKey.probe("Probe Home", "Probe Away", start.plusMinutes(1)));
+    assertNotNull(scoreboard.findMatch(" Probe Home", "Probe Away ", start));
+    assertNull(scoreboard.findMatch("Probe Home", "Probe Away", start.plusMinutes(1)));
+    assertNull(MatchKey.probe("Probe Home", "Never Started", start));
+    assertNull(scoreboard.findMatch("Probe Home", "Never Started", start));
+  }
+
+  @Test
+  @DisplayName("keys naming unknown teams match nothing and register nothing")
+  void unknownTeamsMakeUnresolvedKeys() {
+    LocalDateTime start = LocalDateTime.of(2026, 1, 1, 12, 0);
+    int teams = TeamDictionary.shared().size();
+
+    MatchKey key = MatchKey.of(" Never Started ", "Away", start);
+
+    assertEquals(teams, TeamDictionary.shared().size());
+    assertEquals("Never Started", key.homeTeam());
+    assertEquals("Away", key.awayTeam());
+    assertEquals(key, MatchKey.of("Never Started", "Away", start));
+    assertNotEquals(key, MatchKey.of("Never Started Either", "Away", start));
+    assertEquals("Never Started vs Away @ " + start, key.toString());
+  }
+
+  @Test
+  @DisplayName("keys keep sub-second start time precision")
+  void keysKeepSubSecondPrecision() {
+    LocalDateTime start = LocalDateTime.of(2026, 1, 1, 12, 0, 0, 1_000);
+    MatchKey key = MatchKey.of("Home", "Away", start);
+
+    assertNotEquals(MatchKey.of("Home", "Away", start.withNano(0)), key);
+    assertEquals(start, key.startTime());
+  }
+
+  @Test
+  @DisplayName("key creation validates identifiers without building a match")
+  void keyCreationValidatesIdentifiers() {
+    LocalDateTime start = LocalDateTime.now();
+
+    assertThrows(IllegalArgumentException.class, () -> MatchKey.of(" ", "Away", start));
+    assertThrows(IllegalArgumentException.class, () -> MatchKey.of("Home", null, start));
+    assertThrows(IllegalArgumentException.class, () -> MatchKey.of("Home", "Away", null));
+  }
+}
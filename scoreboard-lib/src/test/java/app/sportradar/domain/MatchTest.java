@@ -100,4 +100,19 @@ class MatchTest {
     assertNotEquals(reference, differentStart);
     assertNotEquals(reference.hashCode(), differentStart.hashCode());
   }
+
+  @Test
+  @DisplayName("withScore shares the identity of the source match and only replaces the score")
+  void withScoreSharesIdentity() {
+    Match original = TestUtils.createValidMatch();
+
+    Match updated = original.withScore(new Score(2, 1));
+
+    assertEquals(original, updated);
+    assertSame(original.getKey(), updated.getKey());
+    assertSame(original.getHomeTeam(), updated.getHomeTeam());
+    assertEquals(2, updated.getScore().homeScore());
+    assertTrue(original.getScore().isInitial());
+    assertThrows(IllegalArgumentException.class, () -> original.withScore(null));
+  }
 }
@@ -232,4 +232,40 @@ class ScoreTest {
     Score score = Score.initial();
     assertTrue(score.isInitial());
   }
+
+  @Test
+  @DisplayName("low scores are shared flyweights, also when derived by increments")
+  void lowScoresAreShared() {
+    Score score = Score.of(2, 1);
+
+    assertSame(score, Score.of(2, 1));
+    assertSame(Score.of(3, 1), score.incrementHomeTeamScore());
+    assertSame(Score.of(2, 3), score.incrementAwayScoreByValue(2));
+    assertSame(Score.initial(), Score.of(0, 0));
+  }
+
+  @Test
+  @DisplayName("high scores are created on demand and compare by value")
+  void highScoresAreCreatedOnDemand() {
+    Score score = Score.of(150, 2);
+
+    assertEquals(new Score(150, 2), score);
+    assertEquals(151, score.incrementHomeTeamScore().homeScore());
+  }
+
+  @ParameterizedTest
+  @DisplayName("pack and unpack round-trip a score")
+  @CsvSource({"0, 0", "3, 1", "31, 32", "999, 0", "0, 999", "999, 999"})
+  void packRoundTrips(int homeScore, int awayScore) {
+    Score score = new Score(homeScore, awayScore);
+
+    assertEquals(score, Score.unpack(score.pack()));
+  }
+
+  @Test
+  @DisplayName("of validates like the constructor")
+  void ofValidates() {
+    assertThrows(IllegalArgumentException.class, () -> Score.of(-1, 0));
+    assertThrows(IllegalArgumentException.class, () -> Score.of(0, 1000));
+  }
 }
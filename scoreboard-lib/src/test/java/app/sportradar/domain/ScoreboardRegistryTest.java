@@ -0,0 +1,153 @@
+package app.sportradar.domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ScoreboardRegistryTest {
+  private static final LocalDateTime START = LocalDateTime.of(2026, 6, 15, 20, 0);
+  private static final Duration IDLE = Duration.ofMinutes(10);
+
+  private final AtomicLong clock = new AtomicLong();
+  private final List<TestRepository> repositories = new ArrayList<>();
+
+  @Test
+  @DisplayName("creates one scoreboard per competition on first access")
+  void createsScoreboardsLazily() {
+    try (ScoreboardRegistry registry = newRegistry()) {
+      assertTrue(registry.getCompetitionIds().isEmpty());
+
+      Scoreboard worldCup = registry.getScoreboard("world-cup");
+
+      assertSame(worldCup, registry.getScoreboard("world-cup"));
+      assertNotSame(worldCup, registry.getScoreboard("euro"));
+      assertEquals(Set.of("world-cup", "euro"), registry.getCompetitionIds());
+      assertThrows(IllegalArgumentException.class, () -> registry.getScoreboard(" "));
+    }
+  }
+
+  @Test
+  @DisplayName("evicts competitions that are idle and empty and closes their repositories")
+  void evictsIdleEmptyCompetitions() {
+    try (ScoreboardRegistry registry = newRegistry()) {
+      Scoreboard idle = registry.getScoreboard("idle");
+      registry.getScoreboard("live").startMatch("Mexico", "Canada", START);
+      registry.getScoreboard("recent");
+
+      clock.addAndGet(IDLE.toNanos() - 1);
+      registry.getScoreboard("recent");
+      clock.addAndGet(1);
+
+      assertEquals(1, registry.evictIdle());
+      assertEquals(Set.of("live", "recent"), registry.getCompetitionIds());
+      assertTrue(repositories.get(0).closed);
+      assertNotSame(idle, registry.getScoreboard("idle"));
+    }
+  }
+
+  @Test
+  @DisplayName("merged summary orders the matches of all competitions and tags them")
+  void mergesSummariesAcrossCompetitions() {
+    try (ScoreboardRegistry registry = newRegistry()) {
+      Scoreboard worldCup = registry.getScoreboard("world-cup");
+      Scoreboard euro = registry.getScoreboard("euro");
+      worldCup.startMatch("Mexico", "Canada", START);
+      worldCup.updateScore("Mexico", "Canada", START, 1, 0);
+      euro.startMatch("Spain", "Brazil", START);
+      euro.updateScore("Spain", "Brazil", START, 3, 2);
+      euro.startMatch("Germany", "France", START);
+
+      List<CompetitionMatch> summary = registry.getSummary();
+
+      assertEquals(
+          List.of("Spain", "Mexico", "Germany"),
+          summary.stream().map(entry -> entry.match().getHomeTeam()).toList());
+      assertEquals(
+          List.of("euro", "world-cup", "euro"),
+          summary.stream().map(CompetitionMatch::competitionId).toList());
+      assertEquals(summary.subList(0, 2), registry.getSummary(2));
+    }
+  }
+
+  @Test
+  @DisplayName("start runs the eviction sweep once and fails after close")
+  void startsSweepOnce() {
+    ScoreboardRegistry registry = newRegistry();
+    registry.start();
+
+    assertThrows(IllegalStateException.class, registry::start);
+
+    registry.close();
+
+    assertThrows(IllegalStateException.class, registry::start);
+  }
+
+  @Test
+  @DisplayName("close closes the repositories of all competitions")
+  void closeClosesRepositories() {
+    ScoreboardRegistry registry = newRegistry();
+    registry.getScoreboard("world-cup").startMatch("Mexico", "Canada", START);
+    registry.getScoreboard("euro");
+
+    registry.close();
+
+    assertTrue(repositories.stream().allMatch(repository -> repository.closed));
+    assertTrue(registry.getCompetitionIds().isEmpty());
+  }
+
+  @Test
+  @DisplayName("rejects board lookups after close without opening repositories")
+  void rejectsLookupsAfterClose() {
+    ScoreboardRegistry registry = newRegistry();
+    registry.getScoreboard("world-cup");
+    registry.close();
+
+    assertThrows(IllegalStateException.class, () -> registry.getScoreboard("world-cup"));
+    assertThrows(IllegalStateException.class, () -> registry.getScoreboard("euro"));
+    assertEquals(1, repositories.size());
+    assertTrue(registry.getCompetitionIds().isEmpty());
+  }
+
+  private ScoreboardRegistry newRegistry() {
+    return new ScoreboardRegistry(
+        competitionId -> {
+          TestRepository repository = new TestRepository();
+          repositories.add(repository);
+          return repository;
+        },
+        IDLE,
+        clock::get);
+  }
+
+  private static final class TestRepository implements ScoreboardRepository, AutoCloseable {
+    private Scoreboard scoreboard = new Scoreboard();
+    private boolean closed;
+
+    @Override
+    public Scoreboard getScoreboard() {
+      return scoreboard;
+    }
+
+    @Override
+    public void save(Scoreboard scoreboard) {
+      this.scoreboard = scoreboard;
+    }
+
+    @Override
+    public void clear() {
+      scoreboard = new Scoreboard();
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+  }
+}
@@ -3,7 +3,19 @@ package app.sportradar.domain;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import utils.TestUtils;
@@ -77,6 +89,21 @@ class ScoreboardTest {
     assertSame(updated, scoreboard.findMatch(match));
   }
 
+  @Test
+  @DisplayName("score updates store the shared flyweight scores.")
+  void scoreUpdatesStoreSharedScores() {
+    Match match = TestUtils.createValidMatch();
+    Scoreboard scoreboard = new Scoreboard();
+    scoreboard.startMatch(match);
+
+    scoreboard.incrementHomeTeamScore(match);
+    scoreboard.incrementAwayScoreByValue(match, 2);
+    Match updated = scoreboard.decrementAwayScore(match);
+
+    assertSame(Score.of(1, 1), updated.getScore());
+    assertSame(Score.of(1, 1), scoreboard.updateScore(match, 1, 1).getScore());
+  }
+
   @Test
   @DisplayName("incrementAwayScoreByValue using identifiers applies the provided amount.")
   void incrementAwayScoreByValueUsingIdentifiersUpdatesScore() {
@@ -370,6 +397,82 @@ class ScoreboardTest {
     assertNull(scoreboard.findMatch("nonexistent", "teams", LocalDateTime.now()));
   }
 
+  @Test
+  @DisplayName("lookups, updates and finishes of unknown teams do not register team names.")
+  void lookupsOfUnknownTeamsDoNotRegisterNames() {
+    Scoreboard scoreboard = new Scoreboard();
+    LocalDateTime start = LocalDateTime.of(2026, 1, 1, 12, 0);
+    int teams = TeamDictionary.shared().size();
+
+    for (int i = 0; i < 100; i++) {
+      String home = "Probe-" + i;
+      assertNull(scoreboard.findMatch(home, "Nowhere", start));
+      scoreboard.finishMatch(home, "Nowhere", start);
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> scoreboard.incrementHomeTeamScore(home, "Nowhere", start));
+    }
+
+    assertEquals(teams, TeamDictionary.shared().size());
+  }
+
+  @Test
+  @DisplayName("building matches and failed imports do not register team names.")
+  void buildingMatchesDoesNotRegisterNames() {
+    Scoreboard scoreboard = new Scoreboard();
+    LocalDateTime start = LocalDateTime.of(2026, 1, 1, 12, 0);
+    int teams = TeamDictionary.shared().size();
+
+    Match.builder().homeTeam("Built Home").awayTeam("Built Away").startTime(start).build();
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            scoreboard.importFixtures(
+                List.of(
+                    new MatchFixture("Fixture Home", "Fixture Away", start),
+                    new MatchFixture("Fixture Home", " ", start))));
+
+    assertEquals(teams, TeamDictionary.shared().size());
+  }
+
+  @Test
+  @DisplayName("keys, matches and events built before a match starts address it afterwards.")
+  void keysBuiltBeforeStartAddressTheMatch() {
+    Scoreboard scoreboard = new Scoreboard();
+    LocalDateTime start = LocalDateTime.of(2026, 1, 1, 12, 0);
+    MatchKey key = MatchKey.of("Early Home", "Early Away", start);
+    Match match =
+        Match.builder().homeTeam("Early Home").awayTeam("Early Away").startTime(start).build();
+    ScoreEvent goal = ScoreEvent.incrementHomeTeamScore(key);
+
+    scoreboard.startMatch(match);
+
+    assertEquals(match, scoreboard.findMatch(key));
+    assertEquals(key, scoreboard.findMatch(key).getKey());
+    assertEquals(key.hashCode(), scoreboard.findMatch(key).getKey().hashCode());
+    assertTrue(scoreboard.applyBatch(List.of(goal)).get(0).isApplied());
+    assertEquals(1, scoreboard.findMatch(match).getScore().homeScore());
+    scoreboard.finishMatch(key);
+    assertNull(scoreboard.findMatch(match));
+  }
+
+  @Test
+  @DisplayName("team names are case-sensitive match identity.")
+  void teamNamesAreCaseSensitive() {
+    Scoreboard scoreboard = new Scoreboard();
+    LocalDateTime start = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    scoreboard.startMatch("Mexico", "Canada", start);
+    scoreboard.startMatch("mexico", "Canada", start);
+    scoreboard.incrementHomeTeamScore("Mexico", "Canada", start);
+
+    assertEquals(2, scoreboard.getMatchMap().size());
+    assertEquals(new Score(1, 0), scoreboard.findMatch("Mexico", "Canada", start).getScore());
+    assertEquals(Score.initial(), scoreboard.findMatch("mexico", "Canada", start).getScore());
+    assertThrows(
+        IllegalArgumentException.class, () -> scoreboard.startMatch("Mexico", "MEXICO", start));
+  }
+
   @Test
   @DisplayName("update operations throw exception when match is null.")
   void updateOperationsThrowWhenMatchIsNull() {
@@ -450,4 +553,659 @@ class ScoreboardTest {
     assertThrows(IllegalArgumentException.class, () -> scoreboard.updateScore(match, -1, 0));
     assertThrows(IllegalArgumentException.class, () -> scoreboard.updateScore(match, 0, -1));
   }
+
+  @Test
+  @DisplayName("getSummary reflects score updates and finished matches without duplicates.")
+  void getSummaryReflectsUpdatesAndFinishedMatches() {
+    Scoreboard scoreboard = new Scoreboard();
+    LocalDateTime baseTime = LocalDateTime.of(2026, 1, 1, 12, 0);
+    scoreboard.startMatch("Mexico", "Canada", baseTime);
+    scoreboard.startMatch("Spain", "Brazil", baseTime.plusMinutes(1));
+    scoreboard.startMatch("Germany", "France", baseTime.plusMinutes(2));
+
+    scoreboard.updateScore("Mexico", "Canada", baseTime, 2, 1);
+    scoreboard.incrementHomeTeamScore("Spain", "Brazil", baseTime.plusMinutes(1));
+    scoreboard.finishMatch("Germany", "France", baseTime.plusMinutes(2));
+
+    List<Match> summary = scoreboard.getSummary();
+
+    assertEquals(2, summary.size());
+    assertEquals("Mexico", summary.get(0).getHomeTeam());
+    assertEquals(3, summary.get(0).getScore().total());
+    assertEquals("Spain", summary.get(1).getHomeTeam());
+  }
+
+  @Test
+  @DisplayName("restarting an existing match replaces its summary entry.")
+  void restartingMatchReplacesSummaryEntry() {
+    Match match = TestUtils.createValidMatch();
+    Scoreboard scoreboard = new Scoreboard();
+    scoreboard.startMatch(match);
+    scoreboard.updateScore(match, 2, 2);
+
+    scoreboard.startMatch(match);
+
+    List<Match> summary = scoreboard.getSummary();
+    assertEquals(1, summary.size());
+    assertTrue(summary.get(0).getScore().isInitial());
+  }
+
+  @Test
+  @DisplayName("matches whose identities hash to the same value do not overwrite each other.")
+  void collidingMatchesDoNotOverwriteEachOther() {
+    Scoreboard scoreboard = new Scoreboard();
+    LocalDateTime start = LocalDateTime.of(2026, 1, 1, 12, 0);
+    // "Aa" and "BB" share the same String.hashCode()
+    scoreboard.startMatch("Aa", "Away", start);
+    scoreboard.startMatch("BB", "Away", start);
+
+    scoreboard.incrementHomeTeamScore("Aa", "Away", start);
+
+    assertEquals(2, scoreboard.getMatchMap().size());
+    assertEquals(1, scoreboard.findMatch("Aa", "Away", start).getScore().homeScore());
+    assertEquals(0, scoreboard.findMatch("BB", "Away", start).getScore().homeScore());
+  }
+
+  @Test
+  @DisplayName("concurrent increments on the same match are never lost.")
+  void concurrentIncrementsAreNeverLost() throws Exception {
+    Scoreboard scoreboard = new Scoreboard();
+    LocalDateTime start = LocalDateTime.of(2026, 1, 1, 12, 0);
+    scoreboard.startMatch("Home", "Away", start);
+    int threads = 32;
+    int incrementsPerThread = 30;
+
+    runConcurrently(
+        threads,
+        index -> {
+          for (int i = 0; i < incrementsPerThread; i++) {
+            if (index % 2 == 0) {
+              scoreboard.incrementHomeTeamScore("Home", "Away", start);
+            } else {
+              scoreboard.incrementAwayTeamScore("Home", "Away", start);
+            }
+          }
+        });
+
+    Match stored = scoreboard.findMatch("Home", "Away", start);
+    assertEquals(threads / 2 * incrementsPerThread, stored.getScore().homeScore());
+    assertEquals(threads / 2 * incrementsPerThread, stored.getScore().awayScore());
+    assertEquals(List.of(stored), scoreboard.getSummary());
+  }
+
+  @Test
+  @DisplayName("updates racing with finishMatch never re-insert the finished match.")
+  void updatesRacingWithFinishNeverReinsertMatch() throws Exception {
+    Scoreboard scoreboard = new Scoreboard();
+    LocalDateTime start = LocalDateTime.of(2026, 1, 1, 12, 0);
+    scoreboard.startMatch("Home", "Away", start);
+
+    runConcurrently(
+        16,
+        index -> {
+          if (index == 0) {
+            scoreboard.finishMatch("Home", "Away", start);
+            return;
+          }
+          for (int i = 0; i < 50; i++) {
+            try {
+              scoreboard.incrementHomeTeamScore("Home", "Away", start);
+            } catch (IllegalArgumentException expectedAfterFinish) {
+              return;
+            }
+          }
+        });
+
+    assertNull(scoreboard.findMatch("Home", "Away", start));
+    assertTrue(scoreboard.getSummary().isEmpty());
+  }
+
+  @Test
+  @DisplayName("a failing journal aborts the mutation, hands its version back and fails the event.")
+  void failingJournalLeavesBoardAndVersionUnchanged() {
+    LocalDateTime start = LocalDateTime.of(2026, 1, 1, 12, 0);
+    boolean[] failing = {false};
+    Scoreboard scoreboard =
+        new Scoreboard(
+            event -> {
+              if (failing[0]) {
+                throw new IllegalStateException("journal down");
+              }
+            });
+    scoreboard.startMatch("Home", "Away", start);
+    scoreboard.startMatch("Other", "Side", start);
+    MatchKey key = MatchKey.of("Home", "Away", start);
+    long version = scoreboard.getVersion();
+    ScoreboardSnapshot before = scoreboard.snapshot();
+
+    failing[0] = true;
+    assertThrows(
+        IllegalStateException.class,
+        () -> scoreboard.incrementHomeTeamScore(key.homeTeam(), key.awayTeam(), start));
+    List<ScoreEventResult> results =
+        scoreboard.applyBatch(
+            List.of(
+                ScoreEvent.incrementHomeTeamScore(key),
+                ScoreEvent.incrementHomeTeamScore(MatchKey.of("Other", "Side", start))));
+
+    assertFalse(results.get(0).isApplied());
+    assertInstanceOf(IllegalStateException.class, results.get(0).failure());
+    assertFalse(results.get(1).isApplied());
+    assertEquals(version, scoreboard.getVersion());
+    assertSame(before, scoreboard.snapshot());
+    assertEquals(Score.initial(), scoreboard.findMatch(key).getScore());
+  }
+
+  @Test
+  @DisplayName("applyBatch applies events in order and reports a result per event.")
+  void applyBatchReportsResultPerEvent() {
+    Scoreboard scoreboard = new Scoreboard();
+    LocalDateTime start = LocalDateTime.of(2026, 1, 1, 12, 0);
+    scoreboard.startMatch("Home", "Away", start);
+    MatchKey key = MatchKey.of("Home", "Away", start);
+    MatchKey unknown = MatchKey.of("Nobody", "Away", start);
+
+    List<ScoreEventResult> results =
+        scoreboard.applyBatch(
+            List.of(
+                ScoreEvent.incrementHomeTeamScore(key),
+                ScoreEvent.incrementAwayScoreByValue(key, 3),
+                ScoreEvent.incrementHomeTeamScore(unknown),
+                ScoreEvent.decrementHomeScoreByValue(key, 5),
+                ScoreEvent.decrementAwayScore(key)));
+
+    assertEquals(5, results.size());
+    assertTrue(results.get(0).isApplied());
+    assertEquals(new Score(1, 3), results.get(1).match().getScore());
+    assertFalse(results.get(2).isApplied());
+    assertFalse(results.get(3).isApplied(), "negative result is rejected by Score validation");
+    assertEquals(new Score(1, 2), results.get(4).match().getScore());
+    assertEquals(new Score(1, 2), scoreboard.findMatch(key).getScore());
+  }
+
+  @Test
+  @DisplayName("summary readers see either all or none of a batch.")
+  void summaryReadersSeeWholeBatches() throws Exception {
+    Scoreboard scoreboard = new Scoreboard();
+    LocalDateTime start = LocalDateTime.of(2026, 1, 1, 12, 0);
+    scoreboard.startMatch("Home", "Away", start);
+    scoreboard.startMatch("Other", "Side", start);
+    List<ScoreEvent> batch =
+        List.of(
+            ScoreEvent.incrementHomeTeamScore(MatchKey.of("Home", "Away", start)),
+            ScoreEvent.incrementHomeTeamScore(MatchKey.of("Other", "Side", start)));
+
+    runConcurrently(
+        8,
+        index -> {
+          for (int i = 0; i < 100; i++) {
+            if (index == 0) {
+              scoreboard.applyBatch(batch);
+            } else {
+              List<Match> summary = scoreboard.getSummary();
+              assertEquals(summary.get(0).getScore().total(), summary.get(1).getScore().total());
+            }
+          }
+        });
+
+    assertEquals(100, scoreboard.findMatch("Other", "Side", start).getScore().homeScore());
+  }
+
+  @Test
+  @DisplayName("snapshot is reused until the board changes and keeps its own state afterwards.")
+  void snapshotIsReusedUntilBoardChanges() {
+    Scoreboard scoreboard = new Scoreboard();
+    LocalDateTime start = LocalDateTime.of(2026, 1, 1, 12, 0);
+    scoreboard.startMatch("Home", "Away", start);
+
+    ScoreboardSnapshot first = scoreboard.snapshot();
+    assertSame(first, scoreboard.snapshot());
+    assertEquals(scoreboard.getVersion(), first.version());
+
+    scoreboard.incrementHomeTeamScore("Home", "Away", start);
+    ScoreboardSnapshot second = scoreboard.snapshot();
+
+    assertTrue(second.version() > first.version());
+    assertTrue(first.summary().get(0).getScore().isInitial());
+    assertEquals(1, second.summary().get(0).getScore().homeScore());
+    assertThrows(UnsupportedOperationException.class, () -> second.summary().clear());
+  }
+
+  @Test
+  @DisplayName("getSummary returns the cached list until the board changes.")
+  void getSummaryIsCachedUntilBoardChanges() throws Exception {
+    Scoreboard scoreboard = new Scoreboard();
+    LocalDateTime start = LocalDateTime.of(2026, 1, 1, 12, 0);
+    scoreboard.startMatch("Home", "Away", start);
+    List<Match> first = scoreboard.getSummary();
+    assertSame(first, scoreboard.getSummary());
+
+    scoreboard.incrementHomeTeamScore("Home", "Away", start);
+    List<List<Match>> results = Collections.synchronizedList(new ArrayList<>());
+    runConcurrently(8, index -> results.add(scoreboard.getSummary()));
+
+    List<Match> rebuilt = results.get(0);
+    assertNotSame(first, rebuilt);
+    assertEquals(1, rebuilt.get(0).getScore().homeScore());
+    results.forEach(summary -> assertSame(rebuilt, summary));
+    assertSame(rebuilt, scoreboard.snapshot().summary());
+  }
+
+  @Test
+  @DisplayName("diff reports inserted, removed, rescored and moved matches with their positions.")
+  void diffReportsChangedMatches() {
+    Scoreboard scoreboard = new Scoreboard();
+    scoreboard.enableDiff();
+    LocalDateTime start = LocalDateTime.of(2026, 1, 1, 12, 0);
+    scoreboard.startMatch("A", "B", start);
+    scoreboard.startMatch("C", "D", start.plusMinutes(1));
+    scoreboard.startMatch("E", "F", start.plusMinutes(2));
+    ScoreboardSnapshot from = scoreboard.snapshot();
+    assertTrue(scoreboard.diff(from, from).isEmpty());
+
+    scoreboard.incrementHomeTeamScore("A", "B", start);
+    scoreboard.incrementAwayTeamScore("E", "F", start.plusMinutes(2));
+    scoreboard.finishMatch("C", "D", start.plusMinutes(1));
+    scoreboard.startMatch("G", "H", start.plusMinutes(3));
+    ScoreboardSnapshot to = scoreboard.snapshot();
+    SummaryDelta delta = scoreboard.diff(from, to);
+
+    assertEquals(from.version(), delta.fromVersion());
+    assertEquals(to.version(), delta.toVersion());
+    assertEquals(
+        List.of(
+            SummaryChange.Type.RESCORED,
+            SummaryChange.Type.MOVED,
+            SummaryChange.Type.INSERTED,
+            SummaryChange.Type.REMOVED),
+        delta.changes().stream().map(SummaryChange::type).toList());
+    SummaryChange moved = delta.changes().get(1);
+    assertEquals("A", moved.current().getHomeTeam());
+    assertEquals(2, moved.fromPosition());
+    assertEquals(1, moved.toPosition());
+    assertEquals(to.summary(), delta.applyTo(from.summary()));
+  }
+
+  @Test
+  @DisplayName("applying a diff to the older summary always yields the newer summary.")
+  void diffTurnsOlderSummaryIntoNewer() {
+    Scoreboard scoreboard = new Scoreboard();
+    LocalDateTime start = LocalDateTime.of(2026, 1, 1, 12, 0);
+    Random random = new Random(7);
+    scoreboard.enableDiff();
+    ScoreboardSnapshot previous = scoreboard.snapshot();
+    for (int round = 0; round < 200; round++) {
+      for (int i = 0; i < 1 + random.nextInt(10); i++) {
+        String home = "Home" + random.nextInt(30);
+        LocalDateTime date = start.plusMinutes(random.nextInt(3));
+        if (scoreboard.findMatch(home, "Away", date) == null) {
+          scoreboard.startMatch(home, "Away", date);
+        } else if (random.nextInt(4) == 0) {
+          scoreboard.finishMatch(home, "Away", date);
+        } else {
+          scoreboard.updateScore(home, "Away", date, random.nextInt(4), random.nextInt(4));
+        }
+      }
+      ScoreboardSnapshot current = scoreboard.snapshot();
+      SummaryDelta delta = scoreboard.diff(previous, current);
+
+      assertNotNull(delta);
+      assertTrue(delta.changes().size() <= current.version() - previous.version());
+      assertEquals(current.summary(), delta.applyTo(previous.summary()));
+      previous = current;
+    }
+  }
+
+  @Test
+  @DisplayName("diff needs enableDiff first and returns null only beyond the change log capacity.")
+  void diffReturnsNullOutsideChangeLog() {
+    Scoreboard scoreboard = new Scoreboard();
+    LocalDateTime start = LocalDateTime.of(2026, 1, 1, 12, 0);
+    scoreboard.startMatch("Home", "Away", start);
+    ScoreboardSnapshot beforeLog = scoreboard.snapshot();
+    assertThrows(IllegalStateException.class, () -> scoreboard.diff(beforeLog, beforeLog));
+    scoreboard.incrementHomeTeamScore("Home", "Away", start);
+
+    scoreboard.enableDiff();
+    ScoreboardSnapshot first = scoreboard.snapshot();
+    scoreboard.incrementHomeTeamScore("Home", "Away", start);
+    ScoreboardSnapshot second = scoreboard.snapshot();
+
+    assertEquals(1, scoreboard.diff(first, second).changes().size());
+    assertThrows(IllegalArgumentException.class, () -> scoreboard.diff(beforeLog, second));
+
+    ScoreboardSnapshot from = scoreboard.snapshot();
+    for (int i = 0; i <= Scoreboard.CHANGE_LOG_CAPACITY; i++) {
+      scoreboard.updateScore("Home", "Away", start, i % 5, 0);
+    }
+
+    assertNull(scoreboard.diff(from, scoreboard.snapshot()));
+    assertThrows(
+        IllegalArgumentException.class, () -> scoreboard.diff(scoreboard.snapshot(), from));
+  }
+
+  @Test
+  @DisplayName("summary view exposes the summary entries through primitive accessors.")
+  void summaryViewMatchesSummary() {
+    Scoreboard scoreboard = new Scoreboard();
+    LocalDateTime start = LocalDateTime.of(2026, 1, 1, 12, 0, 0, 500);
+    scoreboard.startMatch("Mexico", "Canada", start);
+    scoreboard.startMatch("Spain", "Brazil", start.plusMinutes(1));
+    scoreboard.updateScore("Mexico", "Canada", start, 2, 1);
+
+    SummaryView view = scoreboard.getSummaryView();
+
+    assertEquals(2, view.size());
+    assertThrows(IllegalStateException.class, view::rank);
+    assertTrue(view.next());
+    assertEquals(1, view.rank());
+    assertEquals("Mexico", view.homeTeam());
+    assertEquals("Canada", view.awayTeam());
+    assertEquals(TeamDictionary.shared().idOf("Mexico"), view.homeTeamId());
+    assertEquals(2, view.homeScore());
+    assertEquals(1, view.awayScore());
+    assertEquals(3, view.totalScore());
+    assertEquals(start.toEpochSecond(ZoneOffset.UTC), view.startEpochSecond());
+    assertEquals(500, view.startNano());
+    assertSame(scoreboard.getSummary().get(0), view.match());
+    assertTrue(view.next());
+    assertEquals(2, view.rank());
+    assertEquals("Spain", view.homeTeam());
+    assertFalse(view.next());
+    assertFalse(view.next());
+    assertThrows(IllegalStateException.class, view::homeTeam);
+  }
+
+  @Test
+  @DisplayName("importFixtures starts every fixture and later duplicates replace earlier ones.")
+  void importFixturesStartsAllMatches() {
+    Scoreboard scoreboard = new Scoreboard();
+    LocalDateTime start = LocalDateTime.of(2026, 1, 1, 12, 0);
+    List<MatchFixture> fixtures = new ArrayList<>();
+    for (int i = 0; i < 5_000; i++) {
+      fixtures.add(new MatchFixture("Home" + i, "Away" + i, start.plusMinutes(i % 90)));
+    }
+    fixtures.add(new MatchFixture(" Home0", "Away0 ", start));
+    fixtures.add(new MatchFixture("home1", "away1", start.plusMinutes(1)));
+
+    scoreboard.importFixtures(fixtures);
+
+    assertEquals(5_001, scoreboard.getMatchMap().size());
+    assertEquals(5_002, scoreboard.getVersion());
+    assertNotNull(scoreboard.findMatch("home1", "away1", start.plusMinutes(1)));
+    assertEquals(start.plusMinutes(89), scoreboard.getSummary().get(0).getStartTime());
+  }
+
+  @Test
+  @DisplayName("an invalid fixture fails the whole import without starting any match.")
+  void invalidFixtureFailsWholeImport() {
+    Scoreboard scoreboard = new Scoreboard();
+    LocalDateTime start = LocalDateTime.of(2026, 1, 1, 12, 0);
+    List<MatchFixture> fixtures =
+        List.of(
+            new MatchFixture("Home", "Away", start), new MatchFixture("Mexico", "mexico", start));
+
+    assertThrows(IllegalArgumentException.class, () -> scoreboard.importFixtures(fixtures));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> scoreboard.startMatches(Arrays.asList(TestUtils.createValidMatch(), null)));
+    assertTrue(scoreboard.getMatchMap().isEmpty());
+    assertEquals(0, scoreboard.getVersion());
+  }
+
+  @Test
+  @DisplayName("snapshots taken during a bulk start contain none or all of its matches.")
+  void snapshotsContainWholeBulkStarts() throws Exception {
+    Scoreboard scoreboard = new Scoreboard();
+    LocalDateTime start = LocalDateTime.of(2026, 1, 1, 12, 0);
+    List<List<Match>> rounds = new ArrayList<>();
+    for (int round = 0; round < 20; round++) {
+      List<Match> matches = new ArrayList<>();
+      for (int i = 0; i < 50; i++) {
+        matches.add(
+            Match.builder()
+                .homeTeam("Home" + round + "-" + i)
+                .awayTeam("Away")
+                .startTime(start)
+                .build());
+      }
+      rounds.add(matches);
+    }
+
+    runConcurrently(
+        4,
+        index -> {
+          if (index == 0) {
+            rounds.forEach(scoreboard::startMatches);
+          } else {
+            for (int i = 0; i < 200; i++) {
+              assertEquals(0, scoreboard.snapshot().size() % 50);
+            }
+          }
+        });
+    assertEquals(1_000, scoreboard.getSummary().size());
+  }
+
+  @Test
+  @DisplayName("a journal failure in a bulk start keeps the matches journaled before it.")
+  void journalFailureInBulkStartKeepsJournaledPrefix() {
+    LocalDateTime start = LocalDateTime.of(2026, 1, 1, 12, 0);
+    int[] recorded = {0};
+    Scoreboard scoreboard =
+        new Scoreboard(
+            event -> {
+              if (recorded[0] == 2) {
+                throw new IllegalStateException("journal down");
+              }
+              recorded[0]++;
+            });
+    List<Match> matches = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      matches.add(Match.builder().homeTeam("Home" + i).awayTeam("Away").startTime(start).build());
+    }
+
+    assertThrows(IllegalStateException.class, () -> scoreboard.startMatches(matches));
+    assertEquals(2, scoreboard.getVersion());
+    assertEquals(2, scoreboard.snapshot().size());
+    assertNotNull(scoreboard.findMatch("Home1", "Away", start));
+    assertNull(scoreboard.findMatch("Home2", "Away", start));
+  }
+
+  @Test
+  @DisplayName("version only moves when the board actually changes.")
+  void versionOnlyMovesOnChanges() {
+    Scoreboard scoreboard = new Scoreboard();
+    LocalDateTime start = LocalDateTime.of(2026, 1, 1, 12, 0);
+    long initial = scoreboard.getVersion();
+
+    scoreboard.finishMatch("Home", "Away", start);
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> scoreboard.incrementHomeTeamScore("Home", "Away", start));
+    assertEquals(initial, scoreboard.getVersion());
+
+    scoreboard.startMatch("Home", "Away", start);
+    scoreboard.finishMatch("Home", "Away", start);
+    assertEquals(initial + 2, scoreboard.getVersion());
+  }
+
+  @Test
+  @DisplayName("snapshots taken during batches always contain whole batches.")
+  void snapshotsContainWholeBatches() throws Exception {
+    Scoreboard scoreboard = new Scoreboard();
+    LocalDateTime start = LocalDateTime.of(2026, 1, 1, 12, 0);
+    scoreboard.startMatch("Home", "Away", start);
+    scoreboard.startMatch("Other", "Side", start);
+    List<ScoreEvent> batch =
+        List.of(
+            ScoreEvent.incrementAwayTeamScore(MatchKey.of("Home", "Away", start)),
+            ScoreEvent.incrementAwayTeamScore(MatchKey.of("Other", "Side", start)));
+
+    runConcurrently(
+        8,
+        index -> {
+          for (int i = 0; i < 100; i++) {
+            if (index == 0) {
+              scoreboard.applyBatch(batch);
+            } else {
+              List<Match> summary = scoreboard.snapshot().summary();
+              assertEquals(2, summary.size());
+              assertEquals(summary.get(0).getScore().total(), summary.get(1).getScore().total());
+            }
+          }
+        });
+  }
+
+  @Test
+  @DisplayName("getSummary with a limit returns the leading entries of the full summary.")
+  void getSummaryWithLimitReturnsLeadingEntries() {
+    Scoreboard scoreboard = new Scoreboard();
+    LocalDateTime baseTime = LocalDateTime.of(2026, 1, 1, 12, 0);
+    for (int i = 0; i < 10; i++) {
+      scoreboard.startMatch("Home" + i, "Away" + i, baseTime.plusMinutes(i));
+      scoreboard.updateScore("Home" + i, "Away" + i, baseTime.plusMinutes(i), i % 3, 0);
+    }
+
+    assertEquals(scoreboard.getSummary().subList(0, 4), scoreboard.getSummary(4));
+    assertEquals(scoreboard.getSummary(), scoreboard.getSummary(50));
+    assertThrows(IllegalArgumentException.class, () -> scoreboard.getSummary(0));
+  }
+
+  @Test
+  @DisplayName("pages read right after a mutation reflect it like the full summary.")
+  void pagesAfterMutationMatchFullSummary() {
+    Scoreboard scoreboard = new Scoreboard();
+    LocalDateTime baseTime = LocalDateTime.of(2026, 1, 1, 12, 0);
+    for (int i = 0; i < 10; i++) {
+      scoreboard.startMatch("Home" + i, "Away" + i, baseTime.plusMinutes(i));
+    }
+    scoreboard.getSummary();
+
+    scoreboard.updateScore("Home2", "Away2", baseTime.plusMinutes(2), 3, 1);
+    List<Match> top = scoreboard.getSummary(3);
+    SummaryPage first = scoreboard.getSummaryPage(4, null);
+    scoreboard.finishMatch("Home9", "Away9", baseTime.plusMinutes(9));
+    SummaryPage second = scoreboard.getSummaryPage(4, first.next());
+
+    assertEquals(List.of("Home2", "Home9", "Home8"), top.stream().map(Match::getHomeTeam).toList());
+    assertEquals(top, first.matches().subList(0, 3));
+    assertEquals(scoreboard.getSummary().subList(3, 7), second.matches());
+    assertTrue(second.hasNext());
+  }
+
+  @Test
+  @DisplayName("summary pages chained through cursors cover the summary exactly once.")
+  void summaryPagesCoverSummaryExactlyOnce() {
+    Scoreboard scoreboard = new Scoreboard();
+    LocalDateTime baseTime = LocalDateTime.of(2026, 1, 1, 12, 0);
+    for (int i = 0; i < 7; i++) {
+      scoreboard.startMatch("Home" + i, "Away" + i, baseTime.plusMinutes(i));
+    }
+
+    List<Match> collected = new ArrayList<>();
+    SummaryPage page = scoreboard.getSummaryPage(3, null);
+    collected.addAll(page.matches());
+    while (page.hasNext()) {
+      page = scoreboard.getSummaryPage(3, page.next());
+      collected.addAll(page.matches());
+    }
+
+    assertEquals(scoreboard.getSummary(), collected);
+    assertEquals(1, page.matches().size());
+  }
+
+  @Test
+  @DisplayName("subscribers receive start, score change and finish events in order.")
+  void subscribersReceiveEventsInOrder() throws Exception {
+    Scoreboard scoreboard = new Scoreboard();
+    LocalDateTime start = LocalDateTime.of(2026, 1, 1, 12, 0);
+    List<ScoreboardEvent> received = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch allReceived = new CountDownLatch(3);
+    scoreboard.subscribe(
+        new Flow.Subscriber<>() {
+          @Override
+          public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+          }
+
+          @Override
+          public void onNext(ScoreboardEvent event) {
+            received.add(event);
+            allReceived.countDown();
+          }
+
+          @Override
+          public void onError(Throwable throwable) {}
+
+          @Override
+          public void onComplete() {}
+        });
+
+    scoreboard.startMatch("Home", "Away", start);
+    scoreboard.incrementHomeTeamScore("Home", "Away", start);
+    scoreboard.finishMatch("Home", "Away", start);
+
+    assertTrue(allReceived.await(5, TimeUnit.SECONDS));
+    assertInstanceOf(ScoreboardEvent.MatchStarted.class, received.get(0));
+    ScoreboardEvent.ScoreChanged changed =
+        assertInstanceOf(ScoreboardEvent.ScoreChanged.class, received.get(1));
+    assertTrue(changed.previous().getScore().isInitial());
+    assertEquals(1, changed.current().getScore().homeScore());
+    assertInstanceOf(ScoreboardEvent.MatchFinished.class, received.get(2));
+    assertEquals(scoreboard.getVersion(), received.get(2).version());
+  }
+
+  @Test
+  @DisplayName("a subscriber that never requests events does not stall mutations.")
+  void stalledSubscriberDoesNotBlockMutations() {
+    Scoreboard scoreboard = new Scoreboard();
+    LocalDateTime start = LocalDateTime.of(2026, 1, 1, 12, 0);
+    scoreboard.subscribe(
+        new Flow.Subscriber<>() {
+          @Override
+          public void onSubscribe(Flow.Subscription subscription) {
+            // never requests anything
+          }
+
+          @Override
+          public void onNext(ScoreboardEvent event) {}
+
+          @Override
+          public void onError(Throwable throwable) {}
+
+          @Override
+          public void onComplete() {}
+        });
+    scoreboard.startMatch("Home", "Away", start);
+
+    for (int i = 0; i < 1_000; i++) {
+      scoreboard.updateScore("Home", "Away", start, i % 10, 0);
+    }
+
+    assertTrue(scoreboard.getDroppedEventCount() > 0);
+  }
+
+  private static void runConcurrently(int threads, IntConsumer task) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch startSignal = new CountDownLatch(1);
+    List<Future<?>> futures = new ArrayList<>();
+    try {
+      for (int t = 0; t < threads; t++) {
+        int index = t;
+        futures.add(
+            executor.submit(
+                () -> {
+                  startSignal.await();
+                  task.accept(index);
+                  return null;
+                }));
+      }
+      startSignal.countDown();
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
 }
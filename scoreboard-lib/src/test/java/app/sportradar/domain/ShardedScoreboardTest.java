@@ -0,0 +1,232 @@
+package app.sportradar.domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ShardedScoreboardTest {
+  private static final LocalDateTime START = LocalDateTime.of(2026, 6, 15, 20, 0);
+
+  @Test
+  @DisplayName("rejects a non-positive shard count")
+  void rejectsInvalidShardCount() {
+    assertThrows(IllegalArgumentException.class, () -> new ShardedScoreboard(0));
+  }
+
+  @Test
+  @DisplayName("routes every operation of a match to the same shard")
+  void basicLifecycle() {
+    ShardedScoreboard scoreboard = new ShardedScoreboard(4);
+    scoreboard.startMatch("Mexico", "Canada", START);
+
+    scoreboard.incrementHomeTeamScore("Mexico", "Canada", START);
+    Match updated = scoreboard.updateScore("Mexico", "Canada", START, 3, 1);
+    scoreboard.decrementAwayScore(updated);
+
+    assertEquals(Score.of(3, 0), scoreboard.findMatch("Mexico", "Canada", START).getScore());
+    scoreboard.finishMatch("Mexico", "Canada", START);
+    assertNull(scoreboard.findMatch("Mexico", "Canada", START));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> scoreboard.incrementHomeTeamScore("Mexico", "Canada", START));
+  }
+
+  @Test
+  @DisplayName("merged summary has the order of a single scoreboard")
+  void mergedSummaryMatchesSingleBoard() {
+    ShardedScoreboard sharded = new ShardedScoreboard(7);
+    Scoreboard reference = new Scoreboard();
+    Random random = new Random(7);
+    for (int i = 0; i < 500; i++) {
+      LocalDateTime start = START.plusMinutes(random.nextInt(30));
+      int homeScore = random.nextInt(5);
+      int awayScore = random.nextInt(5);
+      sharded.startMatch("Home-" + i, "Away-" + i, start);
+      sharded.updateScore("Home-" + i, "Away-" + i, start, homeScore, awayScore);
+      reference.startMatch("Home-" + i, "Away-" + i, start);
+      reference.updateScore("Home-" + i, "Away-" + i, start, homeScore, awayScore);
+    }
+
+    List<Match> expected = reference.getSummary();
+    assertEquals(expected, sharded.getSummary());
+    assertEquals(expected.subList(0, 10), sharded.getSummary(10));
+    assertEquals(expected, sharded.getSummary(1_000));
+  }
+
+  @Test
+  @DisplayName("concurrent increments across shards never lose a goal")
+  void concurrentIncrementsAreAtomic() throws Exception {
+    ShardedScoreboard scoreboard = new ShardedScoreboard(4);
+    int matches = 16;
+    for (int m = 0; m < matches; m++) {
+      scoreboard.startMatch("Home-" + m, "Away-" + m, START);
+    }
+    int threads = 8;
+    int incrementsPerThread = 200;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch startSignal = new CountDownLatch(1);
+    List<Future<?>> futures = new ArrayList<>();
+    try {
+      for (int t = 0; t < threads; t++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  startSignal.await();
+                  for (int i = 0; i < incrementsPerThread; i++) {
+                    int m = i % matches;
+                    scoreboard.incrementHomeTeamScore("Home-" + m, "Away-" + m, START);
+                  }
+                  return null;
+                }));
+      }
+      startSignal.countDown();
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    int total = scoreboard.getSummary().stream().mapToInt(m -> m.getScore().total()).sum();
+    assertEquals(threads * incrementsPerThread, total);
+  }
+
+  @Test
+  @DisplayName("by-value updates match those of a single scoreboard")
+  void byValueUpdates() {
+    ShardedScoreboard scoreboard = new ShardedScoreboard(4);
+    scoreboard.startMatch("Mexico", "Canada", START);
+
+    scoreboard.incrementHomeScoreByValue("Mexico", "Canada", START, 4);
+    Match match = scoreboard.incrementAwayScoreByValue("Mexico", "Canada", START, 3);
+    scoreboard.decrementHomeScoreByValue(match, 2);
+    Match updated = scoreboard.decrementAwayScoreByValue("Mexico", "Canada", START, 1);
+
+    assertEquals(Score.of(2, 2), updated.getScore());
+    assertThrows(
+        IllegalArgumentException.class, () -> scoreboard.decrementHomeScoreByValue(updated, 3));
+  }
+
+  @Test
+  @DisplayName("applyBatch reports results in the order of the events across shards")
+  void applyBatchKeepsEventOrder() {
+    ShardedScoreboard scoreboard = new ShardedScoreboard(4);
+    List<ScoreEvent> events = new ArrayList<>();
+    for (int m = 0; m < 8; m++) {
+      scoreboard.startMatch("Home-" + m, "Away-" + m, START);
+    }
+    for (int round = 0; round < 3; round++) {
+      for (int m = 0; m < 8; m++) {
+        events.add(ScoreEvent.incrementHomeTeamScore(MatchKey.of("Home-" + m, "Away-" + m, START)));
+      }
+    }
+    events.add(ScoreEvent.incrementHomeTeamScore(MatchKey.of("Nobody", "Away-0", START)));
+
+    List<ScoreEventResult> results = scoreboard.applyBatch(events);
+
+    assertEquals(events.size(), results.size());
+    for (int i = 0; i < 24; i++) {
+      assertSame(events.get(i), results.get(i).event());
+      assertEquals(i / 8 + 1, results.get(i).match().getScore().homeScore());
+    }
+    assertFalse(results.get(24).isApplied());
+  }
+
+  @Test
+  @DisplayName("snapshot merges the shards and is reused until one of them changes")
+  void snapshotMergesShards() {
+    ShardedScoreboard scoreboard = new ShardedScoreboard(4);
+    for (int m = 0; m < 8; m++) {
+      scoreboard.startMatch("Home-" + m, "Away-" + m, START.plusMinutes(m));
+    }
+
+    ScoreboardSnapshot first = scoreboard.snapshot();
+
+    assertEquals(8, first.version());
+    assertEquals(8, first.size());
+    assertSame(first, scoreboard.snapshot());
+    assertSame(first.summary(), scoreboard.getSummary());
+
+    scoreboard.incrementHomeTeamScore("Home-0", "Away-0", START);
+    ScoreboardSnapshot second = scoreboard.snapshot();
+
+    assertEquals(9, second.version());
+    assertEquals("Home-0", second.summary().get(0).getHomeTeam());
+  }
+
+  @Test
+  @DisplayName("diff combines the shards' changes into positions of the merged summary")
+  void diffCombinesShards() {
+    ShardedScoreboard scoreboard = new ShardedScoreboard(4);
+    for (int m = 0; m < 8; m++) {
+      scoreboard.startMatch("Home-" + m, "Away-" + m, START.plusMinutes(m));
+    }
+    ScoreboardSnapshot beforeLog = scoreboard.snapshot();
+    assertThrows(IllegalStateException.class, () -> scoreboard.diff(beforeLog, beforeLog));
+    scoreboard.incrementAwayTeamScore("Home-1", "Away-1", START.plusMinutes(1));
+    scoreboard.enableDiff();
+    assertThrows(
+        IllegalArgumentException.class, () -> scoreboard.diff(beforeLog, scoreboard.snapshot()));
+
+    ScoreboardSnapshot from = scoreboard.snapshot();
+    scoreboard.incrementHomeTeamScore("Home-0", "Away-0", START);
+    scoreboard.finishMatch("Home-3", "Away-3", START.plusMinutes(3));
+    scoreboard.startMatch("Home-8", "Away-8", START.plusMinutes(8));
+    ScoreboardSnapshot to = scoreboard.snapshot();
+
+    SummaryDelta delta = scoreboard.diff(from, to);
+
+    assertEquals(3, delta.changes().size());
+    assertEquals(to.summary(), delta.applyTo(from.summary()));
+    assertNull(scoreboard.diff(new ScoreboardSnapshot(0, List.of()), to));
+  }
+
+  @Test
+  @DisplayName("subscribers receive the events of every shard")
+  void subscribersReceiveEventsOfAllShards() throws Exception {
+    ShardedScoreboard scoreboard = new ShardedScoreboard(4);
+    List<ScoreboardEvent> received = new CopyOnWriteArrayList<>();
+    CountDownLatch allReceived = new CountDownLatch(16);
+    scoreboard.subscribe(
+        new Flow.Subscriber<>() {
+          @Override
+          public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+          }
+
+          @Override
+          public void onNext(ScoreboardEvent event) {
+            received.add(event);
+            allReceived.countDown();
+          }
+
+          @Override
+          public void onError(Throwable throwable) {}
+
+          @Override
+          public void onComplete() {}
+        });
+
+    for (int m = 0; m < 8; m++) {
+      scoreboard.startMatch("Home-" + m, "Away-" + m, START);
+      scoreboard.incrementAwayTeamScore("Home-" + m, "Away-" + m, START);
+    }
+
+    assertTrue(allReceived.await(5, TimeUnit.SECONDS));
+    assertEquals(
+        8, received.stream().filter(ScoreboardEvent.MatchStarted.class::isInstance).count());
+    assertEquals(0, scoreboard.getDroppedEventCount());
+  }
+}
@@ -0,0 +1,111 @@
+package app.sportradar.domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TeamDictionary")
+class TeamDictionaryTest {
+
+  @Test
+  @DisplayName("names are trimmed but keep their case")
+  void trimsNamesAndKeepsCase() {
+    TeamDictionary teams = new TeamDictionary();
+
+    int id = teams.idOf("Mexico");
+
+    assertEquals(id, teams.idOf(" Mexico "));
+    assertNotEquals(id, teams.idOf("MEXICO"));
+    assertNotEquals(id, teams.idOf("Canada"));
+    assertEquals("Mexico", teams.name(id));
+    assertEquals(3, teams.size());
+  }
+
+  @Test
+  @DisplayName("case-insensitive dictionaries fold case and keep the first spelling")
+  void caseInsensitiveModeFoldsCase() {
+    TeamDictionary teams = new TeamDictionary(TeamDictionary.NameMatching.CASE_INSENSITIVE);
+
+    int id = teams.idOf(" Mexico");
+
+    assertEquals(id, teams.idOf("MEXICO "));
+    assertEquals(id, teams.lookupId("mexico"));
+    assertEquals("Mexico", teams.name(id));
+    assertEquals("mexico", teams.normalizedName(id));
+    assertEquals(1, teams.size());
+  }
+
+  @Test
+  @DisplayName("lookups resolve known names and never register unknown ones")
+  void lookupsDoNotRegister() {
+    TeamDictionary teams = new TeamDictionary();
+    int id = teams.idOf("Mexico");
+
+    assertEquals(id, teams.lookupId(" Mexico"));
+    for (int i = 0; i < 1_000; i++) {
+      assertEquals(TeamDictionary.UNKNOWN, teams.lookupId("Unknown-" + i));
+    }
+    assertEquals(TeamDictionary.UNKNOWN, teams.lookupId("mexico"));
+    assertEquals(1, teams.size());
+    assertThrows(IllegalArgumentException.class, () -> teams.lookupId(" "));
+  }
+
+  @Test
+  @DisplayName("ids are dense and stable")
+  void idsAreDense() {
+    TeamDictionary teams = new TeamDictionary();
+
+    for (int i = 0; i < 200; i++) {
+      assertEquals(i, teams.idOf("Team-" + i));
+    }
+    assertEquals(17, teams.idOf("Team-17"));
+    assertEquals("Team-199", teams.name(199));
+  }
+
+  @Test
+  @DisplayName("rejects blank names and unknown ids")
+  void rejectsInvalidInput() {
+    TeamDictionary teams = new TeamDictionary();
+
+    assertThrows(IllegalArgumentException.class, () -> teams.idOf(null));
+    assertThrows(IllegalArgumentException.class, () -> teams.idOf("  "));
+    assertThrows(IllegalArgumentException.class, () -> teams.name(0));
+  }
+
+  @Test
+  @DisplayName("concurrent registrations of the same teams agree on their ids")
+  void concurrentRegistrationsAgree() throws Exception {
+    TeamDictionary teams = new TeamDictionary();
+    int threads = 8;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    List<Future<int[]>> futures = new ArrayList<>();
+    try {
+      for (int t = 0; t < threads; t++) {
+        boolean padded = t % 2 == 0;
+        futures.add(
+            executor.submit(
+                () -> {
+                  int[] ids = new int[1_000];
+                  for (int i = 0; i < ids.length; i++) {
+                    String name = "Team-" + i;
+                    ids[i] = teams.idOf(padded ? " " + name + " " : name);
+                  }
+                  return ids;
+                }));
+      }
+      int[] expected = futures.get(0).get();
+      for (Future<int[]> future : futures) {
+        assertArrayEquals(expected, future.get());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertEquals(1_000, teams.size());
+  }
+}